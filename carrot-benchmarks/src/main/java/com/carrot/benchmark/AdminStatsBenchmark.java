@@ -0,0 +1,54 @@
+package com.carrot.benchmark;
+
+import com.carrot.dto.DashboardStats;
+import com.carrot.dto.SystemStatsSnapshot;
+import com.carrot.service.DashboardStatsService;
+import com.carrot.service.SystemSettingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 대시보드 / 시스템 설정 통계 집계 벤치마크 (캐시 없이 매번 집계)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class AdminStatsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Services {
+        DashboardStatsService dashboardStatsService;
+        SystemSettingsService systemSettingsService;
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogState catalog) {
+            dashboardStatsService = catalog.bean(DashboardStatsService.class);
+            systemSettingsService = catalog.bean(SystemSettingsService.class);
+        }
+    }
+
+    @Benchmark
+    public DashboardStats dashboardStats(Services services) {
+        // carrot.admin.dashboard-stats-ttl-ms=0 이므로 매번 다시 집계
+        return services.dashboardStatsService.getStats();
+    }
+
+    @Benchmark
+    public SystemStatsSnapshot systemStatsSnapshot(Services services) {
+        services.systemSettingsService.refreshSnapshot();
+        return services.systemSettingsService.getSnapshot();
+    }
+}
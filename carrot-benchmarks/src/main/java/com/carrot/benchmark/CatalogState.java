@@ -0,0 +1,86 @@
+package com.carrot.benchmark;
+
+import com.carrot.CarrotApplication;
+import com.carrot.entity.User;
+import com.carrot.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 + 상품 데이터
+ *
+ * - 내장 H2(메모리)로 애플리케이션을 띄우고 SampleDataGenerator로 catalogSize개 상품 생성
+ * - 같은 seed면 항상 같은 데이터
+ * - 검색 색인/패싯 색인/최근 상품 피드는 데이터 생성 후 시작 완료 시점에 구성됨
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    static final String[] CATEGORIES = {"electronics", "clothes", "misc"};
+    static final String[] KEYWORDS = {"아이폰", "갤럭시", "맥북", "나이키", "패딩", "책상", "의자", "카메라", "자전거", "청소기"};
+
+    private static final int USER_COUNT = 1000;
+
+    @Param({"10000"})
+    public int catalogSize;
+
+    @Param({"42"})
+    public long seed;
+
+    ConfigurableApplicationContext context;
+    long firstItemId;
+    long lastItemId;
+    List<User> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.properties(MySQL)보다 우선하도록 명령줄 인자로 전달
+        context = new SpringApplicationBuilder(CarrotApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--carrot.datagen.enabled=true",
+                "--carrot.datagen.seed=" + seed,
+                "--carrot.datagen.users=" + USER_COUNT,
+                "--carrot.datagen.items=" + catalogSize,
+                "--carrot.datagen.wishlists-per-user=0",
+                "--carrot.datagen.wanted-items=0",
+                "--carrot.datagen.admin-logs=0",
+                // 대시보드 통계를 매번 다시 계산하도록 캐시 끔
+                "--carrot.admin.dashboard-stats-ttl-ms=0",
+                // 측정 중 로그/지표 수집 비용이 섞이지 않도록 끔
+                "--carrot.perf.enabled=false");
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        firstItemId = jdbc.queryForObject("SELECT MIN(item_id) FROM items", Long.class);
+        lastItemId = jdbc.queryForObject("SELECT MAX(item_id) FROM items", Long.class);
+        users = context.getBean(UserRepository.class).findAll().stream()
+                .filter(user -> "USER".equals(user.getRole()) && !"testuser".equals(user.getUsername()))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,89 @@
+package com.carrot.benchmark;
+
+import com.carrot.entity.Item;
+import com.carrot.service.ItemService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 검색 / 상세 조회 벤치마크
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ItemServiceBenchmark {
+
+    @State(Scope.Thread)
+    public static class Query {
+        @Param({"latest", "price_low", "view_count"})
+        public String sort;
+
+        ItemService itemService;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogState catalog) {
+            itemService = catalog.bean(ItemService.class);
+            random = new SplittableRandom(catalog.seed);
+        }
+
+        String keyword() {
+            return CatalogState.KEYWORDS[random.nextInt(CatalogState.KEYWORDS.length)];
+        }
+
+        String category() {
+            return CatalogState.CATEGORIES[random.nextInt(CatalogState.CATEGORIES.length)];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Detail {
+        ItemService itemService;
+        SplittableRandom random;
+        long firstItemId;
+        int catalogSize;
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogState catalog) {
+            itemService = catalog.bean(ItemService.class);
+            random = new SplittableRandom(catalog.seed);
+            firstItemId = catalog.firstItemId;
+            catalogSize = catalog.catalogSize;
+        }
+
+        long itemId() {
+            return firstItemId + random.nextInt(catalogSize);
+        }
+    }
+
+    @Benchmark
+    public List<Item> searchByKeyword(Query query) {
+        return query.itemService.searchItemsWithFilters(query.keyword(), null, query.sort);
+    }
+
+    @Benchmark
+    public List<Item> searchByKeywordAndCategory(Query query) {
+        return query.itemService.searchItemsWithFilters(query.keyword(), query.category(), query.sort);
+    }
+
+    @Benchmark
+    public Item getItemDetail(Detail detail) throws Exception {
+        return detail.itemService.getItemDetail(detail.itemId());
+    }
+}
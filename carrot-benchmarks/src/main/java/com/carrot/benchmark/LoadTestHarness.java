@@ -0,0 +1,312 @@
+package com.carrot.benchmark;
+
+import com.carrot.CarrotApplication;
+import com.carrot.config.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 실행 모드별 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * - 모드마다 내장 H2(메모리)로 애플리케이션을 새로 띄우고 같은 seed로 상품 데이터 생성
+ * - 로그인한 세션으로 concurrency개 클라이언트가 쉬지 않고 상품 상세/목록/검색 페이지를 요청
+ * - 예열(warmup) 후 duration 동안 처리량, 지연 시간(p50/p90/p99/최대), 최대 플랫폼 스레드 수,
+ *   커넥션 풀/동시 사용 제한 대기 수 최댓값을 측정해서 모드별로 비교 출력
+ * - 클라이언트는 가상 스레드이므로 측정되는 플랫폼 스레드 수는 대부분 서버 쪽
+ *
+ * 인자 (key=value): modes=platform,virtual items=10000 concurrency=400 warmup=5 duration=20 seed=42
+ */
+public final class LoadTestHarness {
+
+    private static final String[] KEYWORDS = CatalogState.KEYWORDS;
+    private static final int USER_COUNT = 1000;
+
+    private LoadTestHarness() {
+    }
+
+    record Result(String mode, long requests, long errors, double seconds, long[] latenciesNanos,
+                  int peakThreads, int peakPoolWaiting, int peakLimiterWaiting) {
+
+        double throughput() {
+            return requests / seconds;
+        }
+
+        double percentileMs(double percentile) {
+            if (latenciesNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(0, Math.min(index, latenciesNanos.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "modes", "platform,virtual",
+                "items", "10000",
+                "concurrency", "400",
+                "warmup", "5",
+                "duration", "20",
+                "seed", "42"));
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닌 인자: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : options.get("modes").split(",")) {
+            results.add(run(mode.trim(), options));
+        }
+        print(results, options);
+    }
+
+    private static Result run(String mode, Map<String, String> options) throws Exception {
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        long warmupMs = Long.parseLong(options.get("warmup")) * 1000;
+        long durationMs = Long.parseLong(options.get("duration")) * 1000;
+
+        System.out.printf("%n[%s] 애플리케이션 시작 (상품 %s개)%n", mode, options.get("items"));
+        try (ConfigurableApplicationContext context = boot(mode, options)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            long firstItemId = jdbc.queryForObject("SELECT MIN(item_id) FROM items", Long.class);
+            long lastItemId = jdbc.queryForObject("SELECT MAX(item_id) FROM items", Long.class);
+            DataSource dataSource = context.getBean(DataSource.class);
+
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .executor(clientExecutor)
+                        .build();
+                String sessionCookie = login(client, baseUrl);
+                Load load = new Load(client, baseUrl, sessionCookie, firstItemId, lastItemId);
+
+                System.out.printf("[%s] 예열 %dms, 측정 %dms, 동시 클라이언트 %d%n", mode, warmupMs, durationMs, concurrency);
+                load.drive(concurrency, warmupMs);
+
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                threads.resetPeakThreadCount();
+                WaitSampler sampler = new WaitSampler(dataSource);
+                Thread samplerThread = Thread.ofVirtual().name("loadtest-sampler").start(sampler);
+
+                long start = System.nanoTime();
+                Load.Recorded recorded = load.drive(concurrency, durationMs);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                samplerThread.interrupt();
+                samplerThread.join();
+                return new Result(mode, recorded.latencies().length, recorded.errors(), seconds,
+                        recorded.latencies(), threads.getPeakThreadCount(),
+                        sampler.peakPoolWaiting, sampler.peakLimiterWaiting);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(String mode, Map<String, String> options) {
+        List<String> args = new ArrayList<>(List.of(
+                // application.properties(MySQL)보다 우선하도록 명령줄 인자로 전달
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--carrot.datagen.enabled=true",
+                "--carrot.datagen.seed=" + options.get("seed"),
+                "--carrot.datagen.users=" + USER_COUNT,
+                "--carrot.datagen.items=" + options.get("items"),
+                "--carrot.datagen.wishlists-per-user=0",
+                "--carrot.datagen.wanted-items=0",
+                "--carrot.datagen.admin-logs=0",
+                "--carrot.perf.enabled=false"));
+        if ("virtual".equals(mode)) {
+            args.add("--spring.profiles.active=virtual");
+        } else if (!"platform".equals(mode)) {
+            throw new IllegalArgumentException("알 수 없는 모드: " + mode + " (platform, virtual)");
+        }
+        return new SpringApplicationBuilder(CarrotApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=testuser&password=test1234!"))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        String sessionCookie = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("세션 쿠키 없음 (status " + response.statusCode() + ")"));
+
+        // 로그인 실패도 "/"로 리다이렉트하므로 로그인이 필요한 페이지로 확인
+        HttpRequest check = HttpRequest.newBuilder(URI.create(baseUrl + "/item/list"))
+                .header("Cookie", sessionCookie)
+                .build();
+        if (client.send(check, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+            throw new IllegalStateException("testuser 로그인 실패");
+        }
+        return sessionCookie;
+    }
+
+    /**
+     * 동시 클라이언트 부하 (클라이언트마다 가상 스레드 하나)
+     * 요청 비율: 상품 상세 50%, 상품 목록 30%, 검색 결과 20%
+     */
+    private record Load(HttpClient client, String baseUrl, String sessionCookie, long firstItemId, long lastItemId) {
+
+        record Recorded(long[] latencies, long errors) {
+        }
+
+        Recorded drive(int concurrency, long durationMs) throws InterruptedException {
+            long deadline = System.nanoTime() + durationMs * 1_000_000;
+            long[][] perClient = new long[concurrency][];
+            int[] perClientCount = new int[concurrency];
+            AtomicInteger errors = new AtomicInteger();
+
+            Thread[] clients = new Thread[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                int clientIndex = i;
+                clients[i] = Thread.ofVirtual().name("loadtest-client-" + i).start(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextPath()))
+                                .header("Cookie", sessionCookie)
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    perClient[clientIndex] = latencies;
+                    perClientCount[clientIndex] = count;
+                });
+            }
+            for (Thread client : clients) {
+                client.join();
+            }
+
+            int total = 0;
+            for (int count : perClientCount) {
+                total += count;
+            }
+            long[] merged = new long[total];
+            int offset = 0;
+            for (int i = 0; i < concurrency; i++) {
+                System.arraycopy(perClient[i], 0, merged, offset, perClientCount[i]);
+                offset += perClientCount[i];
+            }
+            Arrays.sort(merged);
+            return new Recorded(merged, errors.get());
+        }
+
+        private String nextPath() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int roll = random.nextInt(10);
+            if (roll < 5) {
+                return "/item/" + random.nextLong(firstItemId, lastItemId + 1);
+            }
+            if (roll < 8) {
+                return "/item/list?page=" + random.nextInt(50);
+            }
+            String keyword = URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8);
+            return "/search/results?keyword=" + keyword;
+        }
+    }
+
+    /**
+     * 측정 중 커넥션 풀 대기 스레드 수와 동시 사용 제한 대기 수를 주기적으로 기록 (최댓값)
+     */
+    private static final class WaitSampler implements Runnable {
+        private final HikariDataSource hikari;
+        private final ConcurrencyLimitedDataSource limiter;
+        volatile int peakPoolWaiting;
+        volatile int peakLimiterWaiting;
+
+        WaitSampler(DataSource dataSource) throws SQLException {
+            this.hikari = dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class) : null;
+            this.limiter = dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class) : null;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+                        peakPoolWaiting = Math.max(peakPoolWaiting, hikari.getHikariPoolMXBean().getThreadsAwaitingConnection());
+                    }
+                    if (limiter != null) {
+                        peakLimiterWaiting = Math.max(peakLimiterWaiting, (Integer) limiter.getStats().get("waiting"));
+                    }
+                    Thread.sleep(20);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void print(List<Result> results, Map<String, String> options) {
+        System.out.printf("%n상품 %s개, 동시 클라이언트 %s, 측정 %s초%n", options.get("items"),
+                options.get("concurrency"), options.get("duration"));
+        System.out.printf("%-9s %10s %7s %9s %9s %9s %9s %9s %12s %10s %10s%n",
+                "mode", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)",
+                "peakThreads", "poolWait", "limitWait");
+        for (Result result : results) {
+            System.out.printf("%-9s %10d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %12d %10d %10d%n",
+                    result.mode(), result.requests(), result.errors(), result.throughput(),
+                    result.percentileMs(50), result.percentileMs(90), result.percentileMs(99), result.percentileMs(100),
+                    result.peakThreads(), result.peakPoolWaiting(), result.peakLimiterWaiting());
+        }
+    }
+}
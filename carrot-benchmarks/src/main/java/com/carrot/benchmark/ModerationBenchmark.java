@@ -0,0 +1,62 @@
+package com.carrot.benchmark;
+
+import com.carrot.service.AdminService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금지어 검사 벤치마크 (상품 등록/수정 시 제목 + 설명 검사)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class ModerationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Content {
+        // 본문 길이 (글자 수)
+        @Param({"200", "2000"})
+        public int length;
+
+        // clean: 금지어 없음, dirty: 끝부분에 금지어 포함
+        @Param({"clean", "dirty"})
+        public String kind;
+
+        AdminService adminService;
+        String text;
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogState catalog) {
+            adminService = catalog.bean(AdminService.class);
+            StringBuilder builder = new StringBuilder(length + 16);
+            while (builder.length() < length) {
+                builder.append("거의 새것 같은 상품 판매합니다. 직거래 선호하고 택배도 가능해요. ");
+            }
+            builder.setLength(length);
+            if ("dirty".equals(kind)) {
+                builder.append(" 사 기 아님");
+            }
+            text = builder.toString();
+        }
+    }
+
+    @Benchmark
+    public List<String> findInappropriateWords(Content content) {
+        return content.adminService.findInappropriateWords(content.text);
+    }
+}
@@ -0,0 +1,62 @@
+package com.carrot.benchmark;
+
+import com.carrot.dto.WishlistToggleResult;
+import com.carrot.entity.User;
+import com.carrot.service.WishlistService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 찜하기 토글 벤치마크 (스레드마다 다른 사용자, 여러 스레드가 같은 상품을 동시에 찜할 수 있음)
+ * - 대상 상품은 그 사용자가 판매하지 않는 상품 중에서 고르므로 토글은 항상 성공해야 함 (예외는 그대로 실패로 드러냄)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@Threads(4)
+public class WishlistBenchmark {
+
+    private static final AtomicInteger NEXT_USER = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Toggle {
+        WishlistService wishlistService;
+        User user;
+        SplittableRandom random;
+        long[] itemIds;    // 다른 사용자가 판매하는 상품
+
+        @Setup(Level.Trial)
+        public void setUp(CatalogState catalog) {
+            int index = NEXT_USER.getAndIncrement();
+            wishlistService = catalog.bean(WishlistService.class);
+            user = catalog.users.get(index % catalog.users.size());
+            random = new SplittableRandom(catalog.seed + index);
+            itemIds = catalog.bean(JdbcTemplate.class)
+                    .queryForList("SELECT item_id FROM items WHERE seller_id <> ? ORDER BY item_id", Long.class, user.getId())
+                    .stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    @Benchmark
+    public WishlistToggleResult toggleWishlist(Toggle toggle) throws Exception {
+        long itemId = toggle.itemIds[toggle.random.nextInt(toggle.itemIds.length)];
+        return toggle.wishlistService.toggleWishlist(itemId, toggle.user);
+    }
+}
@@ -0,0 +1,163 @@
+package com.carrot.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 커넥션을 쥘 수 있는 스레드 수를 커넥션 풀 크기로 제한하는 DataSource
+ *
+ * - 가상 스레드 모드에서는 요청마다 스레드가 생기므로 순간 요청이 몰리면 수천 개 스레드가 동시에 커넥션을 요청함
+ *   풀 앞에서 공정(FIFO) 세마포어로 먼저 줄을 세워, 대기는 가상 스레드의 park로 싸게 처리하고
+ *   Hikari 내부 대기열(스레드별 ThreadLocal 목록, 대기 스레드 핸드오프)에는 풀 크기만큼만 들어가게 함
+ * - 커넥션을 닫을 때 한 번만 허가 반환
+ * - acquireTimeoutMs 안에 허가를 못 받으면 SQLTransientConnectionException (Hikari 대기 시간 초과와 같은 종류)
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxPermits, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean granted;
+        try {
+            granted = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트", e);
+        }
+        if (!granted) {
+            timedOut.increment();
+            throw new SQLTransientConnectionException(String.format(
+                    "커넥션 대기 시간 초과 (%dms, 동시 사용 %d, 대기 %d)",
+                    acquireTimeoutMs, maxPermits, permits.getQueueLength()));
+        }
+
+        long waited = System.nanoTime() - start;
+        acquired.increment();
+        waitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    private Connection limited(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(target));
+    }
+
+    /**
+     * close() 시 허가 반환 (여러 번 닫아도 한 번만), 나머지는 원래 커넥션에 위임
+     */
+    private class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    /**
+     * 사용 중/대기 중 수, 누적 획득/시간 초과 수, 평균/최대 대기 시간
+     */
+    public Map<String, Object> getStats() {
+        long count = acquired.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxPermits", maxPermits);
+        stats.put("inUse", maxPermits - permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("acquired", count);
+        stats.put("timedOut", timedOut.sum());
+        stats.put("avgWaitMs", count == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / count);
+        stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    /**
+     * 컨텍스트 종료 시 감싼 풀도 닫음 (종료 메서드는 감싼 뒤의 객체 기준으로 찾으므로 직접 위임)
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.carrot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * datagen 프로필 전용: 시작 작업(데이터 생성 등)이 모두 끝나면 애플리케이션 종료
+ * (다른 프로필, 테스트, 벤치마크에서는 등록되지 않으므로 JVM을 내리지 않음)
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@Order(Ordered.LOWEST_PRECEDENCE) // SampleDataGenerator 다음에 실행
+public class DatagenExitRunner implements ApplicationRunner {
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("datagen 프로필: 데이터 생성이 끝나 종료합니다");
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
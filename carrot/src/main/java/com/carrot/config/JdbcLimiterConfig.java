@@ -0,0 +1,46 @@
+package com.carrot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 동시 사용 제한 설정 (carrot.jdbc.limiter.enabled=true일 때, virtual 프로필은 기본으로 켬)
+ * - 생성된 DataSource를 ConcurrencyLimitedDataSource로 감쌈
+ * - 허가 수를 지정하지 않으면 Hikari maximum-pool-size와 같게
+ * - 읽기/쓰기 분리 DataSource는 감싸지 않음 (ReadWriteRoutingConfig가 주 DB와 복제본 풀마다 따로 제한)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "carrot.jdbc.limiter.enabled", havingValue = "true")
+public class JdbcLimiterConfig {
+
+    // DataSource 생성 전에 등록되어야 하므로 static
+    @Bean
+    public static BeanPostProcessor jdbcLimiterPostProcessor(
+            @Value("${carrot.jdbc.limiter.permits:0}") int permits,
+            @Value("${carrot.jdbc.limiter.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof ReadWriteRoutingDataSource) {
+                    return bean;
+                }
+                int maxPermits = permits > 0 ? permits : poolSize(dataSource);
+                log.info("JDBC 동시 사용 제한: {} (동시 {}개, 대기 최대 {}ms)", beanName, maxPermits, acquireTimeoutMs);
+                return new ConcurrencyLimitedDataSource(dataSource, maxPermits, acquireTimeoutMs);
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        return dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+    }
+}
@@ -0,0 +1,40 @@
+package com.carrot.config;
+
+import com.carrot.service.RequestPerf;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 성능 측정용 Hibernate 설정
+ * - 세션마다 PerfSessionEventListener를 붙여 SQL 실행 수/JDBC 시간을 기록
+ * - 엔티티 로딩(POST_LOAD) 이벤트마다 로딩 수를 기록
+ */
+@Configuration
+public class PerfHibernateConfig {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // EntityManagerFactory를 만들 때 필요하므로 static (이 설정 객체 생성 전에 사용)
+    @Bean
+    public static HibernatePropertiesCustomizer perfSessionEventsCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                PerfSessionEventListener.class.getName());
+    }
+
+    @PostConstruct
+    public void registerLoadListener() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestPerf.entityLoaded());
+    }
+}
@@ -0,0 +1,41 @@
+package com.carrot.config;
+
+import com.carrot.service.RequestPerf;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 SQL 실행 수/JDBC 시간/2차 캐시 적중을 현재 요청에 기록
+ * (세션마다 새로 만들어지므로 시작 시각을 필드에 보관해도 됨)
+ */
+public class PerfSessionEventListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestPerf.statementExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestPerf.statementExecuted(System.nanoTime() - batchStart);
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        if (hit) {
+            RequestPerf.cacheHit();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.carrot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 설정 (carrot.datasource.replica.enabled=true일 때)
+ * - spring.datasource.*로 주 DB 풀, carrot.datasource.replica.urls마다 복제본 풀을 만들고
+ *   ReadWriteRoutingDataSource 하나를 애플리케이션 DataSource로 등록 (기본 DataSource 자동 설정은 빠짐)
+ * - 풀 설정(spring.datasource.hikari.*)은 복제본에도 똑같이 적용
+ * - 복제 지연은 lag-check-ms마다 확인
+ * - JDBC 동시 사용 제한(carrot.jdbc.limiter.enabled)은 풀마다 따로 걸어 쓰기, 쓰기 후 읽기, 대체 읽기가 몰리는
+ *   주 DB 풀에도 그 풀 크기만큼만 들어가게 함 (복제본은 연결 대기 시간을 넘겨 기다리지 않고 주 DB로 넘어감)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "carrot.datasource.replica.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Value("${carrot.datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    // 비워두면 spring.datasource.username/password
+    @Value("${carrot.datasource.replica.username:}")
+    private String replicaUsername;
+
+    @Value("${carrot.datasource.replica.password:}")
+    private String replicaPassword;
+
+    // 0이면 주 DB 풀 크기와 같게
+    @Value("${carrot.datasource.replica.maximum-pool-size:0}")
+    private int replicaPoolSize;
+
+    // 복제본이 응답하지 않을 때 주 DB로 넘어가기까지 기다리는 시간
+    @Value("${carrot.datasource.replica.connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${carrot.datasource.replica.max-lag-ms:3000}")
+    private long maxLagMs;
+
+    @Value("${carrot.datasource.replica.sticky-window-ms:5000}")
+    private long stickyWindowMs;
+
+    @Value("${carrot.jdbc.limiter.enabled:false}")
+    private boolean limiterEnabled;
+
+    // 0이면 풀마다 maximum-pool-size와 같게
+    @Value("${carrot.jdbc.limiter.permits:0}")
+    private int limiterPermits;
+
+    @Value("${carrot.jdbc.limiter.acquire-timeout-ms:30000}")
+    private long limiterAcquireTimeoutMs;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = createPool(properties, binder, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = createPool(properties, binder, url.trim(),
+                    replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername,
+                    replicaUsername.isEmpty() ? properties.determinePassword() : replicaPassword);
+            replica.setPoolName(name);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            if (replicaPoolSize > 0) {
+                replica.setMaximumPoolSize(replicaPoolSize);
+            }
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name,
+                    limited(name, replica, Math.min(limiterAcquireTimeoutMs, replicaConnectionTimeoutMs))));
+        }
+
+        log.info("읽기/쓰기 분리: 복제본 {}개 (허용 지연 {}ms, 쓰기 후 주 DB 읽기 {}ms)",
+                replicas.size(), maxLagMs, stickyWindowMs);
+        routingDataSource = new ReadWriteRoutingDataSource(limited("primary", primary, limiterAcquireTimeoutMs),
+                replicas, stickyWindowMs, maxLagMs);
+        return routingDataSource;
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, Binder binder,
+                                        String url, String username, String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    private DataSource limited(String name, HikariDataSource pool, long acquireTimeoutMs) {
+        if (!limiterEnabled) {
+            return pool;
+        }
+        int permits = limiterPermits > 0 ? limiterPermits : pool.getMaximumPoolSize();
+        log.info("JDBC 동시 사용 제한: {} (동시 {}개, 대기 최대 {}ms)", name, permits, acquireTimeoutMs);
+        return new ConcurrencyLimitedDataSource(pool, permits, acquireTimeoutMs);
+    }
+
+    @Scheduled(fixedDelayString = "${carrot.datasource.replica.lag-check-ms:1000}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.carrot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 나머지는 주 DB
+ * - 커넥션은 실제 DB 커넥션을 처음 사용할 때 가져옴 (Spring이 트랜잭션 시작 시 setReadOnly를 먼저 호출하므로 그 값으로 결정)
+ * - open-in-view로 요청 내내 같은 커넥션을 쓰더라도, 트랜잭션 밖에서 읽기 전용 여부가 바뀌면 실제 커넥션을 반납하고 다시 고름
+ *   (읽기 전용 트랜잭션에서 가져온 복제본 커넥션으로 다음 쓰기 트랜잭션이 실행되지 않음)
+ * - 복제본은 돌아가며 사용, 지연(heartbeat 기준)이 maxLagMs를 넘거나 연결이 안 되면 빼고 모두 안 되면 주 DB로 읽음
+ * - 실제로 데이터를 바꾼(INSERT/UPDATE/DELETE 등을 실행한) 트랜잭션을 커밋하면
+ *   같은 세션(사용자)의 읽기는 stickyWindowMs 동안 주 DB로 (방금 쓴 내용이 보이도록)
+ *   웹 요청 밖(스케줄러, 워커 스레드)에서는 같은 스레드 기준
+ *   (읽기 전용 표시가 없는 트랜잭션이라도 조회만 했다면 고정하지 않으므로 익명 방문자에게 세션을 만들지 않음)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 세션에 저장하는 "이 시각까지 주 DB에서 읽기" (epoch 밀리초)
+    static final String STICKY_UNTIL_ATTR = ReadWriteRoutingDataSource.class.getName() + ".STICKY_UNTIL";
+
+    private static final String HEARTBEAT_DDL =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+
+    /**
+     * 복제본 하나와 마지막 확인 결과
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMs = -1;
+        private volatile String lastError;
+        private final LongAdder reads = new LongAdder();
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markDown(Exception e) {
+            if (healthy || lastError == null) {
+                log.warn("복제본 제외 ({}): {}", name, e.getMessage());
+            }
+            healthy = false;
+            lastError = e.getMessage();
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long stickyWindowMs;
+    private final long maxLagMs;
+
+    // 웹 요청 밖에서만 사용 (요청 스레드는 풀에서 재사용되므로 다른 사용자 요청에 남지 않도록 세션/요청 속성 사용)
+    private final ThreadLocal<Long> threadStickyUntil = new ThreadLocal<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private volatile boolean heartbeatReady;
+
+    /**
+     * @param maxLagMs 허용 복제 지연 (0 이하면 지연은 확인하지 않고 연결 여부만 확인)
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, long stickyWindowMs, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.stickyWindowMs = stickyWindowMs;
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return (Connection) Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new RoutingConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 계정을 지정한 연결은 분리 대상이 아님
+        return primary.getConnection(username, password);
+    }
+
+    // ===== 읽기 대상 결정 =====
+
+    private record Routed(Connection connection, boolean primary) {
+    }
+
+    private Routed route(boolean readOnly) throws SQLException {
+        if (!readOnly || replicas.isEmpty()) {
+            return new Routed(primary.getConnection(), true);
+        }
+        if (isSticky()) {
+            stickyReads.increment();
+            return new Routed(primary.getConnection(), true);
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                return new Routed(connection, false);
+            } catch (SQLException e) {
+                // 다음 확인 주기에 다시 넣음
+                replica.markDown(e);
+            }
+        }
+        fallbackReads.increment();
+        return new Routed(primary.getConnection(), true);
+    }
+
+    private boolean isSticky() {
+        long now = System.currentTimeMillis();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            Long threadUntil = threadStickyUntil.get();
+            if (threadUntil == null) {
+                return false;
+            }
+            if (threadUntil > now) {
+                return true;
+            }
+            threadStickyUntil.remove();
+            return false;
+        }
+        return isStickyUntil(attributes, RequestAttributes.SCOPE_SESSION, now)
+                || isStickyUntil(attributes, RequestAttributes.SCOPE_REQUEST, now);
+    }
+
+    private static boolean isStickyUntil(RequestAttributes attributes, int scope, long now) {
+        return attributes.getAttribute(STICKY_UNTIL_ATTR, scope) instanceof Long until && until > now;
+    }
+
+    /**
+     * 데이터를 바꾼 트랜잭션 커밋 후 같은 세션(웹 요청 밖이면 같은 스레드)의 읽기를 잠시 주 DB로
+     * (리다이렉트 다음 요청이 먼저 도착하지 않도록 응답 전, 커밋 시점에 세션에 기록)
+     */
+    private void markWritten() {
+        writes.increment();
+        if (stickyWindowMs <= 0 || replicas.isEmpty()) {
+            return;
+        }
+        long until = System.currentTimeMillis() + stickyWindowMs;
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            threadStickyUntil.set(until);
+            return;
+        }
+        try {
+            attributes.setAttribute(STICKY_UNTIL_ATTR, until, RequestAttributes.SCOPE_SESSION);
+        } catch (IllegalStateException e) {
+            // 응답이 이미 나가 세션을 만들 수 없음 - 이 요청에만 적용
+            log.debug("읽기 고정 세션 기록 실패: {}", e.getMessage());
+            attributes.setAttribute(STICKY_UNTIL_ATTR, until, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // ===== 복제 지연 확인 =====
+
+    /**
+     * 주 DB에 heartbeat 시각을 쓰고, 복제본마다 보이는 heartbeat로 지연 계산
+     * 지연이 maxLagMs 이하인 복제본만 읽기 대상 (처음 확인 전에는 모두 제외)
+     */
+    public void checkReplicas() {
+        long now = System.currentTimeMillis();
+        if (maxLagMs > 0) {
+            try {
+                writeHeartbeat(now);
+            } catch (SQLException e) {
+                log.warn("복제 지연 heartbeat 기록 실패: {}", e.getMessage());
+                return;
+            }
+        }
+
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (maxLagMs <= 0) {
+                    replica.lagMs = -1;
+                } else {
+                    Long beatAt = readHeartbeat(connection);
+                    if (beatAt == null) {
+                        throw new SQLException("heartbeat가 아직 복제되지 않음");
+                    }
+                    replica.lagMs = Math.max(0, now - beatAt);
+                    if (replica.lagMs > maxLagMs) {
+                        throw new SQLException("복제 지연 " + replica.lagMs + "ms");
+                    }
+                }
+                if (!replica.healthy) {
+                    log.info("복제본 읽기 대상 포함 ({}), 지연 {}ms", replica.name, replica.lagMs);
+                }
+                replica.healthy = true;
+                replica.lastError = null;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    private void writeHeartbeat(long now) throws SQLException {
+        try (Connection connection = primary.getConnection()) {
+            connection.setAutoCommit(true);
+            if (!heartbeatReady) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(HEARTBEAT_DDL);
+                }
+                heartbeatReady = true;
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1")) {
+                update.setLong(1, now);
+                if (update.executeUpdate() > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)")) {
+                insert.setLong(1, now);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    private Long readHeartbeat(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT beat_at FROM replica_heartbeat WHERE id = 1")) {
+            return rs.next() ? rs.getLong(1) : null;
+        }
+    }
+
+    // ===== 논리 커넥션 =====
+
+    /**
+     * 실제 커넥션을 처음 사용할 때 가져오고, 트랜잭션 밖에서 읽기 전용 여부가 바뀌면 반납 후 다시 고르는 커넥션
+     * 실제 커넥션이 없을 때 받은 autoCommit/readOnly/격리 수준은 기억해 두었다가 가져올 때 적용
+     */
+    private class RoutingConnectionHandler implements InvocationHandler {
+        private Connection target;
+        private boolean targetIsPrimary;
+        private boolean autoCommit = true;
+        private boolean readOnly;
+        private Integer isolation;
+        private boolean closed;
+        // 지금 트랜잭션에서 데이터 변경 SQL을 실행했는지 (커밋/롤백 시 초기화)
+        private boolean modified;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "RoutingConnection[" + (target != null ? target : "not acquired") + "]";
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    release();
+                    return null;
+                case "getAutoCommit":
+                    return target != null ? target.getAutoCommit() : autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    if (target != null) {
+                        target.setAutoCommit(autoCommit);
+                    }
+                    return null;
+                case "isReadOnly":
+                    return readOnly;
+                case "setReadOnly":
+                    setReadOnly((Boolean) args[0]);
+                    return null;
+                case "setTransactionIsolation":
+                    isolation = (Integer) args[0];
+                    if (target != null) {
+                        target.setTransactionIsolation(isolation);
+                    }
+                    return null;
+                case "commit":
+                    if (target != null) {
+                        boolean write = targetIsPrimary && modified && !autoCommit;
+                        target.commit();
+                        modified = false;
+                        if (write) {
+                            markWritten();
+                        }
+                    }
+                    return null;
+                case "rollback":
+                    if (args == null || args.length == 0) {
+                        modified = false;
+                        if (target != null) {
+                            target.rollback();
+                        }
+                        return null;
+                    }
+                    break;
+                case "getWarnings":
+                    if (target == null) {
+                        return null;
+                    }
+                    break;
+                case "clearWarnings":
+                    if (target == null) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("이미 닫힌 커넥션");
+            }
+            Object result;
+            try {
+                result = method.invoke(acquire(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // prepareStatement/prepareCall은 SQL을 미리 받으므로 execute() 때 조회인지 판단할 수 있게 보관
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+
+        private void setReadOnly(boolean value) throws SQLException {
+            if (value == readOnly) {
+                return;
+            }
+            readOnly = value;
+            if (target == null) {
+                return;
+            }
+            if (autoCommit) {
+                // 트랜잭션 밖: 다음에 사용할 때 읽기 전용 여부에 맞는 DB로 다시 고름
+                release();
+            } else {
+                target.setReadOnly(value);
+            }
+        }
+
+        private Connection acquire() throws SQLException {
+            if (target != null) {
+                return target;
+            }
+            Routed routed = route(readOnly);
+            Connection connection = routed.connection();
+            try {
+                if (readOnly) {
+                    connection.setReadOnly(true);
+                }
+                if (isolation != null) {
+                    connection.setTransactionIsolation(isolation);
+                }
+                if (!autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.close();
+                throw e;
+            }
+            target = connection;
+            targetIsPrimary = routed.primary();
+            return connection;
+        }
+
+        private void release() throws SQLException {
+            Connection connection = target;
+            target = null;
+            if (connection != null) {
+                connection.close();
+            }
+        }
+
+        /**
+         * 데이터 변경 SQL 실행을 기록하는 Statement (executeQuery와 SELECT execute는 조회로 봄)
+         */
+        private class StatementHandler implements InvocationHandler {
+            private final Statement target;
+            private final String preparedSql;
+
+            StatementHandler(Statement target, String preparedSql) {
+                this.target = target;
+                this.preparedSql = preparedSql;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch":
+                        modified = true;
+                        break;
+                    case "execute":
+                        if (!isQuery(args != null && args.length > 0 ? (String) args[0] : preparedSql)) {
+                            modified = true;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        }
+    }
+
+    // 앞의 주석(/* ... */)을 건너뛰고 SELECT로 시작하면 조회
+    static boolean isQuery(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String trimmed = sql.strip();
+        while (trimmed.startsWith("/*")) {
+            int end = trimmed.indexOf("*/");
+            if (end < 0) {
+                return false;
+            }
+            trimmed = trimmed.substring(end + 2).strip();
+        }
+        return trimmed.regionMatches(true, 0, "select", 0, 6);
+    }
+
+    // ===== 기타 =====
+
+    /**
+     * 주 DB 풀 정보를 찾는 경우(Hikari 지표 등)는 주 DB로 위임
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    public Map<String, Object> getStats() {
+        List<Map<String, Object>> replicaStats = new ArrayList<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("name", replica.name);
+            stats.put("healthy", replica.healthy);
+            stats.put("lagMs", replica.lagMs);
+            stats.put("reads", replica.reads.sum());
+            stats.put("lastError", replica.lastError);
+            if (replica.dataSource instanceof ConcurrencyLimitedDataSource limiter) {
+                stats.put("jdbcLimiter", limiter.getStats());
+            }
+            replicaStats.add(stats);
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxLagMs", maxLagMs);
+        stats.put("stickyWindowMs", stickyWindowMs);
+        stats.put("writes", writes.sum());
+        stats.put("stickyReads", stickyReads.sum());
+        stats.put("fallbackReads", fallbackReads.sum());
+        stats.put("replicas", replicaStats);
+        return stats;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
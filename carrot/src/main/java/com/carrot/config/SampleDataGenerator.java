@@ -0,0 +1,429 @@
+package com.carrot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 테스트/부하 테스트용 데이터 생성기
+ *
+ * - 사용자, 상품, 찜, 구매희망상품, 관리 로그를 JDBC 배치 INSERT로 생성
+ *   (MySQL은 rewriteBatchedStatements=true로 여러 행 INSERT 한 문장으로 전송)
+ * - 청크(CHUNK_SIZE개) 단위로 나누어 여러 스레드에서 동시에 생성
+ * - 청크마다 (seed, 테이블, 청크 번호)로 난수를 만들고 ID도 직접 지정하므로
+ *   같은 seed면 스레드 수와 관계없이 항상 같은 데이터
+ * - 등록일은 ID 순으로 증가 (이어서 생성할 때는 기존 행의 마지막 등록일 이후로)
+ *   최신순 목록과 패싯 색인은 ID 순서를 등록 순서로 씀
+ * - 기본 설정: 생성하지 않음 (carrot.datagen.enabled=false)
+ * - dev 프로필: 상품이 하나도 없을 때만 소량의 예시 데이터 생성
+ * - datagen 프로필: 대량 데이터를 생성하고 종료 (application-datagen.properties, 종료는 DatagenExitRunner)
+ */
+@Slf4j
+@Component
+@Order(2) // DataInitializer(관리자/테스트 계정 생성) 다음에 실행
+public class SampleDataGenerator implements CommandLineRunner {
+
+    private static final int CHUNK_SIZE = 10000;
+    private static final int BATCH_SIZE = 1000;
+
+    // 생성된 사용자 공통 비밀번호
+    private static final String DEFAULT_PASSWORD = "test1234!";
+    private static final String MODERATOR_EMAIL = "admin@carrot.com";
+
+    private static final String[] LOCATIONS = {"서울 강남구", "서울 서초구", "서울 마포구", "서울 용산구", "서울 송파구",
+            "서울 홍대", "경기 성남시", "경기 수원시", "경기 고양시", "인천 연수구", "부산 해운대구", "대구 수성구",
+            "대전 유성구", "광주 서구"};
+
+    private static final String[] CONDITIONS = {"거의 새것", "상태 좋은", "급처", "풀박스", "미개봉", "사용감 있는", "정품"};
+
+    private static final String[] DESCRIPTIONS = {
+            "사용 기간 짧고 상태 좋습니다. 직거래 선호합니다.",
+            "박스 포함 모든 구성품 있습니다. 택배 거래도 가능해요.",
+            "이사 가면서 정리합니다. 네고는 어렵습니다.",
+            "생활 기스 조금 있지만 기능은 문제 없습니다.",
+            "선물 받았는데 사용하지 않아서 판매합니다.",
+            "퇴근 후 저녁 시간에 직거래 가능합니다."};
+
+    /**
+     * 카테고리별 상품명 + 대표 이미지 (static/images 아래 실제 파일)
+     */
+    private record Catalog(String category, String[] products, String[] images, int minPrice, int maxPrice) {
+    }
+
+    private static final Catalog[] CATALOGS = {
+            new Catalog("electronics",
+                    new String[]{"아이폰 13 Pro", "아이폰 14", "갤럭시 S22 Ultra", "갤럭시 탭 S8", "맥북 에어 M1", "LG 그램 16",
+                            "에어팟 프로", "아이패드 에어", "닌텐도 스위치", "소니 헤드폰", "모니터 27인치", "기계식 키보드"},
+                    new String[]{"/images/electronics/iphone13.jpg", "/images/electronics/galaxy-s22.jpg",
+                            "/images/electronics/macbook-air.jpg", "/images/electronics/lg-gram.jpg",
+                            "/images/electronics/airpods-pro.jpg", "/images/electronics/galaxy-tab.jpg"},
+                    30000, 1500000),
+            new Catalog("clothes",
+                    new String[]{"나이키 에어포스1", "아디다스 스탠스미스", "유니클로 패딩", "조던1 하이", "노스페이스 플리스",
+                            "리바이스 청바지", "코트", "니트", "운동화", "후드티"},
+                    new String[]{"/images/clothes/nike-airforce.jpg", "/images/clothes/adidas-stansmith.jpg",
+                            "/images/clothes/uniqlo-padding.jpg", "/images/clothes/jordan1.jpg",
+                            "/images/clothes/northface-fleece.jpg"},
+                    5000, 300000),
+            new Catalog("misc",
+                    new String[]{"원목 책상", "허먼밀러 의자", "캐논 카메라", "다이슨 청소기", "브레빌 커피머신", "캠핑 의자",
+                            "자전거", "전기포트", "책장", "공기청정기"},
+                    new String[]{"/images/misc/wooden-desk.jpg", "/images/misc/herman-miller.jpg",
+                            "/images/misc/canon-camera.jpg", "/images/misc/dyson-v11.jpg",
+                            "/images/misc/breville-espresso.jpg", "/images/misc/nintendo-switch.jpg"},
+                    5000, 1000000)
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${carrot.datagen.enabled:false}")
+    private boolean enabled;
+
+    // false면 상품이 하나도 없을 때만 생성
+    @Value("${carrot.datagen.append:false}")
+    private boolean append;
+
+    @Value("${carrot.datagen.seed:42}")
+    private long seed;
+
+    @Value("${carrot.datagen.threads:4}")
+    private int threads;
+
+    @Value("${carrot.datagen.users:20}")
+    private int userCount;
+
+    @Value("${carrot.datagen.items:100}")
+    private int itemCount;
+
+    @Value("${carrot.datagen.wishlists-per-user:5}")
+    private int wishlistsPerUser;
+
+    @Value("${carrot.datagen.wanted-items:30}")
+    private int wantedItemCount;
+
+    @Value("${carrot.datagen.admin-logs:10}")
+    private int adminLogCount;
+
+    // 등록일을 분포시킬 기간 (오늘 기준 최근 N일)
+    @Value("${carrot.datagen.days:365}")
+    private int days;
+
+    private LocalDateTime now;
+    private boolean h2;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!enabled || userCount <= 0) {
+            return;
+        }
+        Long existingItems = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+        if (!append && existingItems != null && existingItems > 0) {
+            log.info("상품 데이터가 이미 있어 데이터 생성을 건너뜁니다 ({}건)", existingItems);
+            return;
+        }
+
+        now = LocalDateTime.now();
+        h2 = isH2();
+        long start = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            IdRange users = generateUsers(executor);
+            IdRange items = generateItems(executor, users);
+            int wishlists = generateWishlists(executor, users, items);
+            IdRange wantedItems = generateWantedItems(executor, users);
+            int moderated = generateAdminLogs(items);
+
+            log.info("데이터 생성 완료 (seed={}): 사용자 {}명, 상품 {}건, 찜 {}건, 구매희망 {}건, 관리 로그 {}건 - {}ms",
+                    seed, users.count(), items.count(), wishlists, wantedItems.count(), moderated,
+                    System.currentTimeMillis() - start);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 새로 생성한 행의 ID 범위 [first, first + count)
+     */
+    private record IdRange(long first, int count) {
+        long pick(SplittableRandom random) {
+            return first + random.nextInt(count);
+        }
+    }
+
+    // ===== 사용자 =====
+
+    private IdRange generateUsers(ExecutorService executor) throws Exception {
+        IdRange range = new IdRange(nextId("users", "id"), userCount);
+        Period period = period("users", userCount);
+        String password = passwordEncoder.encode(DEFAULT_PASSWORD);   // BCrypt는 느리므로 한 번만
+
+        runChunks(executor, userCount, (chunk, from, to) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                long id = range.first() + i;
+                Timestamp createdAt = period.timestamp(i);
+                rows.add(new Object[]{id, "user" + id, password, "사용자" + id, "user" + id + "@carrot.test",
+                        String.format("010-%04d-%04d", id / 10000 % 10000, id % 10000), "USER", true,
+                        LOCATIONS[(int) (id % LOCATIONS.length)], createdAt, createdAt});
+            }
+            executeBatch("INSERT INTO users (id, username, password, name, email, phone, role, enabled, address, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        syncIdentity("users", "id");
+        return range;
+    }
+
+    // ===== 상품 =====
+
+    private IdRange generateItems(ExecutorService executor, IdRange users) throws Exception {
+        IdRange range = new IdRange(nextId("items", "item_id"), itemCount);
+        Period period = period("items", itemCount);
+
+        runChunks(executor, itemCount, (chunk, from, to) -> {
+            SplittableRandom random = random("items", chunk);
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Catalog catalog = CATALOGS[random.nextInt(CATALOGS.length)];
+                String product = catalog.products()[random.nextInt(catalog.products().length)];
+                String title = CONDITIONS[random.nextInt(CONDITIONS.length)] + " " + product;
+                int price = (catalog.minPrice() + random.nextInt(catalog.maxPrice() - catalog.minPrice())) / 1000 * 1000;
+                // 판매중 80%, 예약중 10%, 판매완료 10%
+                int roll = random.nextInt(10);
+                String sellStatus = roll < 8 ? "SELL" : roll < 9 ? "RESERVED" : "SOLD_OUT";
+                // ID 순서 = 등록 순서가 되도록 등록일은 인덱스 순으로 증가
+                Timestamp createdAt = period.timestamp(i);
+
+                rows.add(new Object[]{range.first() + i, title,
+                        product + " 판매합니다. " + DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                        price, catalog.category(), LOCATIONS[random.nextInt(LOCATIONS.length)], sellStatus,
+                        users.pick(random), random.nextInt(500),
+                        catalog.images()[random.nextInt(catalog.images().length)], createdAt, createdAt});
+            }
+            executeBatch("INSERT INTO items (item_id, title, description, price, category, location, sell_status, " +
+                    "moderation_status, seller_id, view_count, wish_count, image_url, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, 'VISIBLE', ?, ?, 0, ?, ?, ?)", rows);
+        });
+        syncIdentity("items", "item_id");
+        return range;
+    }
+
+    // ===== 찜 =====
+
+    private int generateWishlists(ExecutorService executor, IdRange users, IdRange items) throws Exception {
+        int perUser = Math.min(wishlistsPerUser, items.count());
+        if (perUser <= 0) {
+            return 0;
+        }
+
+        runChunks(executor, users.count(), (chunk, from, to) -> {
+            SplittableRandom random = random("wishlist", chunk);
+            List<Object[]> rows = new ArrayList<>((to - from) * perUser);
+            for (int i = from; i < to; i++) {
+                long userId = users.first() + i;
+                Set<Long> picked = new HashSet<>();
+                while (picked.size() < perUser) {
+                    picked.add(items.pick(random));
+                }
+                for (Long itemId : picked) {
+                    rows.add(new Object[]{userId, itemId, Timestamp.valueOf(now.minusMinutes(random.nextInt(days * 1440 + 1)))});
+                }
+            }
+            executeBatch("INSERT INTO wishlist (user_id, item_id, created_at) VALUES (?, ?, ?)", rows);
+        });
+
+        // 찜 개수는 생성된 찜으로 한 번에 맞춤
+        jdbcTemplate.update("UPDATE items SET wish_count = " +
+                "(SELECT COUNT(*) FROM wishlist w WHERE w.item_id = items.item_id) WHERE item_id >= ?", items.first());
+        return users.count() * perUser;
+    }
+
+    // ===== 구매희망상품 =====
+
+    private IdRange generateWantedItems(ExecutorService executor, IdRange users) throws Exception {
+        IdRange range = new IdRange(nextId("wanted_items", "wanted_item_id"), wantedItemCount);
+        Period period = period("wanted_items", wantedItemCount);
+
+        runChunks(executor, wantedItemCount, (chunk, from, to) -> {
+            SplittableRandom random = random("wanted_items", chunk);
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Catalog catalog = CATALOGS[random.nextInt(CATALOGS.length)];
+                String product = catalog.products()[random.nextInt(catalog.products().length)];
+                int maxPrice = (catalog.minPrice() + random.nextInt(catalog.maxPrice() - catalog.minPrice())) / 1000 * 1000;
+                // 구매 희망 중 85%, 매칭됨 10%, 취소됨 5%
+                int roll = random.nextInt(20);
+                String status = roll < 17 ? "ACTIVE" : roll < 19 ? "MATCHED" : "CANCELLED";
+                Timestamp createdAt = period.timestamp(i);
+
+                rows.add(new Object[]{range.first() + i, product + " 구매희망합니다",
+                        product + " 찾고 있습니다. 상태 좋은 제품이면 가격 조정 가능합니다.",
+                        maxPrice, catalog.category(), LOCATIONS[random.nextInt(LOCATIONS.length)], status,
+                        users.pick(random), random.nextInt(300), random.nextInt(20), createdAt, createdAt});
+            }
+            executeBatch("INSERT INTO wanted_items (wanted_item_id, title, description, max_price, category, location, " +
+                    "wanted_status, buyer_id, view_count, interest_count, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+        syncIdentity("wanted_items", "wanted_item_id");
+        return range;
+    }
+
+    // ===== 관리 로그 =====
+
+    /**
+     * 관리 로그를 만들고, 상품별 마지막 로그 상태를 상품/상태 테이블에 반영
+     * (로그 수는 상품 수보다 훨씬 적으므로 한 스레드에서 처리)
+     */
+    private int generateAdminLogs(IdRange items) {
+        if (adminLogCount <= 0 || items.count() == 0) {
+            return 0;
+        }
+        long firstLogId = nextId("admin_log", "admin_log_id");
+        Period period = period("admin_log", adminLogCount);
+        SplittableRandom random = random("admin_log", 0);
+        String[] reasons = {"금지어 포함", "허위 매물 신고", "중복 게시물", "신고 검토 후 복구", "판매 금지 품목"};
+
+        // 상품별 마지막 로그 [로그 ID, 상태, 시각]
+        Map<Long, Object[]> latestByItem = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>(adminLogCount);
+        for (int i = 0; i < adminLogCount; i++) {
+            long logId = firstLogId + i;
+            long itemId = items.pick(random);
+            // 블라인드 60%, 복구 30%, 삭제 10%
+            int roll = random.nextInt(10);
+            String status = roll < 6 ? "BLINDED" : roll < 9 ? "VISIBLE" : "DELETED";
+            Timestamp moderatedAt = period.timestamp(i);
+
+            rows.add(new Object[]{logId, itemId, status, reasons[random.nextInt(reasons.length)],
+                    MODERATOR_EMAIL, moderatedAt, moderatedAt, moderatedAt});
+            latestByItem.put(itemId, new Object[]{logId, status, moderatedAt});
+        }
+        transactionTemplate.executeWithoutResult(tx -> {
+            executeBatch("INSERT INTO admin_log (admin_log_id, item_id, moderation_status, moderation_reason, " +
+                    "moderator_email, moderated_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+            List<Object[]> statusRows = new ArrayList<>();
+            List<Object[]> stateRows = new ArrayList<>();
+            latestByItem.forEach((itemId, latest) -> {
+                statusRows.add(new Object[]{latest[1], itemId});
+                stateRows.add(new Object[]{itemId, latest[1], latest[0], latest[2]});
+            });
+            executeBatch("UPDATE items SET moderation_status = ? WHERE item_id = ?", statusRows);
+            executeBatch("DELETE FROM item_moderation_state WHERE item_id = ?",
+                    stateRows.stream().map(row -> new Object[]{row[0]}).toList());
+            executeBatch("INSERT INTO item_moderation_state (item_id, moderation_status, last_log_id, moderated_at) " +
+                    "VALUES (?, ?, ?, ?)", stateRows);
+        });
+        syncIdentity("admin_log", "admin_log_id");
+        return adminLogCount;
+    }
+
+    // ===== 공통 =====
+
+    private interface ChunkWriter {
+        void write(int chunk, int from, int to);
+    }
+
+    /**
+     * [0, total)을 CHUNK_SIZE 단위로 나누어 스레드 풀에서 실행 (청크마다 트랜잭션 하나)
+     */
+    private void runChunks(ExecutorService executor, int total, ChunkWriter writer) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0, chunk = 0; from < total; from += CHUNK_SIZE, chunk++) {
+            int chunkIndex = chunk;
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + CHUNK_SIZE, total);
+            futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(
+                    tx -> writer.write(chunkIndex, chunkFrom, chunkTo))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void executeBatch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    // 테이블/청크마다 독립된 난수 (스레드 실행 순서와 무관하게 같은 결과)
+    private SplittableRandom random(String table, int chunk) {
+        return new SplittableRandom(seed * 31 + table.hashCode() * 1_000_003L + chunk);
+    }
+
+    /**
+     * 새 행 count개의 등록일을 고르게 나눌 기간 (from, from + spanMillis]
+     */
+    private record Period(LocalDateTime from, long spanMillis, int count) {
+        // index번째 행의 등록일 (인덱스가 클수록 최신, 같은 등록일 없음)
+        Timestamp timestamp(int index) {
+            return Timestamp.valueOf(from.plus(Duration.ofMillis(spanMillis * (index + 1) / count)));
+        }
+    }
+
+    /**
+     * 최근 days일, 이어서 생성할 때는 기존 행의 마지막 등록일 이후부터 지금까지
+     * (기존 행이 지금에 가까우면 행마다 1ms씩은 벌어지도록 지금을 조금 넘길 수 있음)
+     */
+    private Period period(String table, int count) {
+        LocalDateTime from = now.minusDays(days);
+        if (append) {
+            Timestamp latest = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM " + table, Timestamp.class);
+            if (latest != null && latest.toLocalDateTime().isAfter(from)) {
+                from = latest.toLocalDateTime();
+            }
+        }
+        return new Period(from, Math.max(Duration.between(from, now).toMillis(), count), count);
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    /**
+     * ID를 직접 넣은 뒤 자동 증가 값을 맞춤
+     * (MySQL AUTO_INCREMENT는 자동으로 맞춰지고, H2 IDENTITY는 직접 재시작 필요)
+     */
+    private void syncIdentity(String table, String idColumn) {
+        if (h2) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn +
+                    " RESTART WITH " + nextId(table, idColumn));
+        }
+    }
+
+    private boolean isH2() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) ->
+                "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+}
@@ -1,26 +1,26 @@
 package com.carrot.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.carrot.service.RequestPerfMonitor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry; // 박정대 추가
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload.dir:uploads/images}")
-    private String uploadDir;
+    @Autowired
+    private RequestPerfMonitor requestPerfMonitor;
 
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 하나의 핸들러에 여러 경로를 등록
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations(
-                        "classpath:/static/images/",
-                        "file:" + uploadDir + "/"
-                );
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 컨트롤러 메서드별 SQL 실행 수/응답 시간 측정
+        registry.addInterceptor(requestPerfMonitor);
     }
+
+    // /images/** 는 ImageController가 처리 (ETag/immutable 캐시, Range, sendfile)
+
     @Override //박정대 추가
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/SellerSecondPage").setViewName("SellerSecondPage");
@@ -0,0 +1,41 @@
+package com.carrot.constant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum ImageFormat {
+
+    JPEG("jpg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("png", new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    GIF("gif", "GIF8".getBytes(StandardCharsets.US_ASCII));   // GIF87a / GIF89a
+
+    // 형식 판별에 필요한 최대 바이트 수
+    public static final int MAGIC_LENGTH = 8;
+
+    private final String extension;
+    private final byte[] magic;
+
+    ImageFormat(String extension, byte[] magic) {
+        this.extension = extension;
+        this.magic = magic;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 파일 앞부분(매직 바이트)으로 이미지 형식 판별 (Content-Type/확장자는 믿지 않음)
+     *
+     * @return 지원하지 않는 형식이면 null
+     */
+    public static ImageFormat detect(byte[] head, int length) {
+        for (ImageFormat format : values()) {
+            if (length >= format.magic.length
+                    && Arrays.equals(head, 0, format.magic.length, format.magic, 0, format.magic.length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -1,11 +1,16 @@
 package com.carrot.controller;
 
+import com.carrot.config.ConcurrencyLimitedDataSource;
+import com.carrot.config.ReadWriteRoutingDataSource;
+import com.carrot.dto.DashboardStats;
+import com.carrot.dto.SystemStatsSnapshot;
 import com.carrot.entity.AdminLog;
 import com.carrot.entity.Item;
 import com.carrot.entity.User;
 import com.carrot.entity.AdminMenu;
 import com.carrot.service.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,8 +18,15 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import jakarta.servlet.http.HttpSession;
 
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +49,33 @@ public class AdminController {
     @Autowired
     private AdminMenuService adminMenuService;
 
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private ModerationEngine moderationEngine;
+
+    @Autowired
+    private AdminLogRetentionService adminLogRetentionService;
+
+    @Autowired
+    private ItemDetailCache itemDetailCache;
+
+    @Autowired
+    private RequestPerfMonitor requestPerfMonitor;
+
+    @Autowired
+    private ImageFileCache imageFileCache;
+
+    @Autowired
+    private ItemEventHub itemEventHub;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     // 관리자 권한 체크
     private boolean checkAdminAccess(HttpSession session, RedirectAttributes redirectAttributes) {
         User user = (User) session.getAttribute("user");
@@ -69,26 +108,14 @@ public class AdminController {
             model.addAttribute("customMenus", new ArrayList<>());
         }
 
-        // 실시간 통계 추가
+        // 통계 추가 (집계 쿼리 결과를 캐시해서 사용)
         try {
-            long totalUsers = userService.getAllUsers().size();
-            long totalItems = itemService.getAllItemsForAdmin().size();
-
-            // 오늘 등록된 상품 (최근 24시간)
-            java.time.LocalDateTime yesterday = java.time.LocalDateTime.now().minusDays(1);
-            long todayItems = itemService.getAllItemsForAdmin().stream()
-                    .filter(item -> item.getCreatedAt().isAfter(yesterday))
-                    .count();
-
-            // 판매중인 상품
-            long activeItems = itemService.getAllItemsForAdmin().stream()
-                    .filter(item -> item.getSellStatus() == com.carrot.constant.ItemSellStatus.SELL)
-                    .count();
+            DashboardStats stats = dashboardStatsService.getStats();
 
-            model.addAttribute("totalUsers", totalUsers);
-            model.addAttribute("totalItems", totalItems);
-            model.addAttribute("todayItems", todayItems);
-            model.addAttribute("activeItems", activeItems);
+            model.addAttribute("totalUsers", stats.getTotalUsers());
+            model.addAttribute("totalItems", stats.getTotalItems());
+            model.addAttribute("todayItems", stats.getTodayItems());
+            model.addAttribute("activeItems", stats.getActiveItems());
 
         } catch (Exception e) {
             model.addAttribute("totalUsers", 0);
@@ -161,11 +188,13 @@ public class AdminController {
         model.addAttribute("user", admin);
         try {
             model.addAttribute("adminMenus", adminMenuService.getAllMenus());
-            model.addAttribute("systemStats", systemSettingsService.getSystemStats());
-            model.addAttribute("categoryStats", systemSettingsService.getCategoryStats());
+            // 통계는 미리 계산된 스냅샷 사용
+            SystemStatsSnapshot stats = systemSettingsService.getSnapshot();
+            model.addAttribute("systemStats", stats.getSystemStats());
+            model.addAttribute("categoryStats", stats.getCategoryStats());
             model.addAttribute("recentActivities", systemSettingsService.getRecentActivities());
-            model.addAttribute("weeklyStats", systemSettingsService.getWeeklyStats());
-            model.addAttribute("dbInfo", systemSettingsService.getDatabaseInfo());
+            model.addAttribute("weeklyStats", stats.getWeeklyStats());
+            model.addAttribute("dbInfo", stats.getDatabaseInfo());
         } catch (Exception e) {
             model.addAttribute("error", "시스템 정보를 불러올 수 없습니다: " + e.getMessage());
         }
@@ -238,17 +267,194 @@ public class AdminController {
             if (admin == null || !admin.isAdmin()) {
                 return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
             }
+            SystemStatsSnapshot stats = systemSettingsService.getSnapshot();
             Map<String, Object> allStats = new HashMap<>();
-            allStats.put("systemStats", systemSettingsService.getSystemStats());
-            allStats.put("categoryStats", systemSettingsService.getCategoryStats());
-            allStats.put("weeklyStats", systemSettingsService.getWeeklyStats());
-            allStats.put("dbInfo", systemSettingsService.getDatabaseInfo());
+            allStats.put("systemStats", stats.getSystemStats());
+            allStats.put("categoryStats", stats.getCategoryStats());
+            allStats.put("weeklyStats", stats.getWeeklyStats());
+            allStats.put("dbInfo", stats.getDatabaseInfo());
+            allStats.put("generatedAt", stats.getGeneratedAt());
             return ResponseEntity.ok(allStats);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // ===== 금지어 관리 API =====
+
+    // 현재 적용 중인 금지어 상태
+    @GetMapping("/api/banned-words")
+    @ResponseBody
+    public ResponseEntity<?> getBannedWordsStatus(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        Map<String, Object> status = new HashMap<>();
+        status.put("wordCount", moderationEngine.current().size());
+        status.put("wordsFile", moderationEngine.getWordsFile());
+        status.put("loadedAt", moderationEngine.getLoadedAt());
+        return ResponseEntity.ok(status);
+    }
+
+    // 금지어 추가 (쉼표 또는 줄바꿈으로 구분), 추가 즉시 반영
+    @PostMapping("/api/banned-words")
+    @ResponseBody
+    public ResponseEntity<?> addBannedWords(@RequestParam String words, HttpSession session) {
+        try {
+            User admin = (User) session.getAttribute("user");
+            if (admin == null || !admin.isAdmin()) {
+                return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+            }
+            int added = moderationEngine.addWords(Arrays.asList(words.split("[,\\n]")));
+            Map<String, Object> response = new HashMap<>();
+            response.put("added", added);
+            response.put("wordCount", moderationEngine.current().size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 금지어 파일/테이블 다시 읽기
+    @PostMapping("/api/banned-words/reload")
+    @ResponseBody
+    public ResponseEntity<?> reloadBannedWords(HttpSession session) {
+        try {
+            User admin = (User) session.getAttribute("user");
+            if (admin == null || !admin.isAdmin()) {
+                return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+            }
+            Map<String, Object> response = new HashMap<>();
+            response.put("wordCount", moderationEngine.reload());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ===== 관리 로그 보관 기간 정리 API =====
+
+    // 정리 작업 진행 상황
+    @GetMapping("/api/log-retention")
+    @ResponseBody
+    public ResponseEntity<?> getLogRetentionStatus(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("retentionDays", adminLogRetentionService.getRetentionDays());
+        response.put("status", adminLogRetentionService.getStatus());
+        return ResponseEntity.ok(response);
+    }
+
+    // 보관 기간(days, 기본값은 설정값)이 지난 로그 정리를 백그라운드로 실행
+    @PostMapping("/api/log-retention/run")
+    @ResponseBody
+    public ResponseEntity<?> runLogRetention(@RequestParam(required = false) Integer days,
+                                             HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        int retentionDays = days != null ? days : adminLogRetentionService.getRetentionDays();
+        if (retentionDays <= 0) {
+            // 0 이하는 정기 정리에서도 "정리하지 않음"이므로 전체 삭제로 해석하지 않음
+            return ResponseEntity.badRequest().body("보관 기간은 1일 이상이어야 합니다.");
+        }
+        if (adminLogRetentionService.getStatus().isRunning()) {
+            return ResponseEntity.ok(adminLogRetentionService.getStatus());
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Thread.ofVirtual().name("admin-log-purge").start(() -> adminLogRetentionService.purgeOlderThan(cutoff));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("started", true);
+        response.put("cutoff", cutoff);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    // 상품 상세 캐시 적중률/크기
+    @GetMapping("/api/item-cache")
+    @ResponseBody
+    public ResponseEntity<?> getItemCacheStats(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(itemDetailCache.getStats());
+    }
+
+    // 이미지 메모리 캐시 적중률/크기
+    @GetMapping("/api/image-cache")
+    @ResponseBody
+    public ResponseEntity<?> getImageCacheStats(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(imageFileCache.getStats());
+    }
+
+    // 실시간 상품 변경(SSE) 연결 수/전송/버림 통계
+    @GetMapping("/api/sse")
+    @ResponseBody
+    public ResponseEntity<?> getSseStats(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(itemEventHub.getStats());
+    }
+
+    // 컨트롤러 메서드별 SQL 실행 수/응답 시간 통계, 최근 기준 초과 요청
+    @GetMapping("/api/perf")
+    @ResponseBody
+    public ResponseEntity<?> getPerfStats(HttpSession session) {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        return ResponseEntity.ok(requestPerfMonitor.getStats());
+    }
+
+    // 실행 모드(가상 스레드 여부), 플랫폼 스레드 수, JDBC 동시 사용 제한 통계
+    @GetMapping("/api/threads")
+    @ResponseBody
+    public ResponseEntity<?> getThreadStats(HttpSession session) throws SQLException {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        // 가상 스레드는 ThreadMXBean 스레드 수에 포함되지 않음
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("virtualThreads", virtualThreads);
+        stats.put("liveThreads", threads.getThreadCount());
+        stats.put("peakThreads", threads.getPeakThreadCount());
+        stats.put("daemonThreads", threads.getDaemonThreadCount());
+        if (dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+            stats.put("jdbcLimiter", dataSource.unwrap(ConcurrencyLimitedDataSource.class).getStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    // 읽기/쓰기 분리: 복제본별 상태/지연/읽기 수, 쓰기 후 주 DB 읽기/대체 읽기 수
+    @GetMapping("/api/datasource")
+    @ResponseBody
+    public ResponseEntity<?> getDataSourceStats(HttpSession session) throws SQLException {
+        User admin = (User) session.getAttribute("user");
+        if (admin == null || !admin.isAdmin()) {
+            return ResponseEntity.status(403).body("관리자 권한이 필요합니다.");
+        }
+        if (!dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+            return ResponseEntity.ok(Map.of("replicas", List.of()));
+        }
+        return ResponseEntity.ok(dataSource.unwrap(ReadWriteRoutingDataSource.class).getStats());
+    }
+
     // ===== 메뉴 관리 API =====
 
     @GetMapping("/menu/{id}")
@@ -358,25 +564,13 @@ public class AdminController {
         model.addAttribute("user", admin);
 
         try {
-            // 기본 통계
-            long totalUsers = userService.getAllUsers().size();
-            long totalItems = itemService.getAllItemsForAdmin().size();
-
-            // 오늘 등록된 상품 (최근 24시간)
-            java.time.LocalDateTime yesterday = java.time.LocalDateTime.now().minusDays(1);
-            long todayItems = itemService.getAllItemsForAdmin().stream()
-                    .filter(item -> item.getCreatedAt().isAfter(yesterday))
-                    .count();
-
-            // 판매중인 상품
-            long activeItems = itemService.getAllItemsForAdmin().stream()
-                    .filter(item -> item.getSellStatus() == com.carrot.constant.ItemSellStatus.SELL)
-                    .count();
-
-            model.addAttribute("totalUsers", totalUsers);
-            model.addAttribute("totalItems", totalItems);
-            model.addAttribute("todayItems", todayItems);
-            model.addAttribute("activeItems", activeItems);
+            // 기본 통계 (집계 쿼리 결과를 캐시해서 사용)
+            DashboardStats stats = dashboardStatsService.getStats();
+
+            model.addAttribute("totalUsers", stats.getTotalUsers());
+            model.addAttribute("totalItems", stats.getTotalItems());
+            model.addAttribute("todayItems", stats.getTodayItems());
+            model.addAttribute("activeItems", stats.getActiveItems());
 
         } catch (Exception e) {
             model.addAttribute("error", "통계 정보를 불러올 수 없습니다: " + e.getMessage());
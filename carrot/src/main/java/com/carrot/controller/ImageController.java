@@ -0,0 +1,212 @@
+package com.carrot.controller;
+
+import com.carrot.dto.ImageResource;
+import com.carrot.service.ImageFileCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 상품 이미지 전송 (/images/**)
+ *
+ * - 강한 ETag + Last-Modified로 조건부 요청(304) 처리
+ * - 내용 주소 이미지(ab/cd/해시...)는 주소가 곧 내용이므로 1년 + immutable로 재검증 없이 캐시
+ *   그 외 정적/이전 업로드 이미지는 cache-max-age 동안 캐시 후 ETag로 재검증
+ * - Range 요청(단일 구간) 지원
+ * - 본문 전송: 메모리 캐시 → 그대로 쓰기 / 큰 파일 → Tomcat sendfile(커널이 직접 전송, 요청 스레드는 바로 반환)
+ *   / 그 외 → FileChannel.transferTo
+ */
+@Controller
+public class ImageController {
+
+    private static final String PREFIX = "/images/";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile 요청 속성 (커넥터가 지원하면 sendfile.support가 true)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ImageFileCache imageFileCache;
+
+    @Value("${carrot.image.cache-max-age:3600}")
+    private long cacheMaxAge;
+
+    @Value("${carrot.image.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @RequestMapping(value = "/images/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = ((String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE))
+                .substring(PREFIX.length());
+        ImageResource image = imageFileCache.find(path);
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, image.getEtag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, image.getLastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                image.isImmutable() ? IMMUTABLE : "public, max-age=" + cacheMaxAge);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, image)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = image.getLength();
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, image)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(image.getContentType());
+        response.setContentLengthLong(count);
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        writeBody(request, response, image, start, count);
+    }
+
+    private void writeBody(HttpServletRequest request, HttpServletResponse response,
+                           ImageResource image, long start, long count) throws IOException {
+        if (image.isInMemory()) {
+            response.getOutputStream().write(image.getBytes(), (int) start, (int) count);
+            return;
+        }
+        if (count >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문은 응답 후 Tomcat이 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, image.getFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(image.getFile(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // ===== 조건부 요청 =====
+
+    private static boolean notModified(HttpServletRequest request, ImageResource image) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                // If-None-Match는 약한 비교 (W/ 접두어 무시)
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(image.getEtag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && image.getLastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range가 없거나 현재 이미지와 같을 때만 Range 적용 (다르면 전체 전송)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, ImageResource image) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range는 강한 비교
+            return ifRange.equals(image.getEtag());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && image.getLastModified() / 1000 == date / 1000;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" 단일 구간 해석
+     *
+     * @return [시작, 끝(포함)], 범위를 벗어나면 빈 배열(416), 해석할 수 없거나 여러 구간이면 null(전체 전송)
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                return null;
+            }
+            if (start >= length) {
+                return new long[0];
+            }
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -72,6 +72,10 @@ public class ItemController {
             item.setCategory(category);
             item.setLocation(location);
             item.setSeller(user);
+            // 업로드한 이미지 주소 (업로드 이미지 참조 확인/정리 기준)
+            if (imageUrl != null && !imageUrl.isBlank()) {
+                item.setImageUrl(imageUrl);
+            }
 
             // 상품 등록 서비스 호출
             Item savedItem = itemService.registerItem(item);
@@ -264,6 +268,7 @@ public class ItemController {
                            @RequestParam Integer price,
                            @RequestParam String category,
                            @RequestParam String location,
+                           @RequestParam(required = false) String imageUrl,
                            HttpSession session,
                            RedirectAttributes redirectAttributes) {
 
@@ -280,6 +285,10 @@ public class ItemController {
             updatedItem.setPrice(price);
             updatedItem.setCategory(category);
             updatedItem.setLocation(location);
+            // 새 이미지를 올린 경우에만 교체 (이전 이미지는 참조가 없으면 정리 작업에서 삭제)
+            if (imageUrl != null && !imageUrl.isBlank()) {
+                updatedItem.setImageUrl(imageUrl);
+            }
 
             // 상품 수정 서비스 호출
             Item savedItem = itemService.updateItem(id, updatedItem, user);
@@ -0,0 +1,44 @@
+package com.carrot.controller;
+
+import com.carrot.entity.User;
+import com.carrot.service.ItemEventHub;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@RequestMapping("/api/events")
+public class ItemEventController {
+
+    @Autowired
+    private ItemEventHub itemEventHub;
+
+    /**
+     * 상품 변경 실시간 구독 (GET /api/events, text/event-stream)
+     * - 찜한 상품의 판매 상태/가격/숨김 변경을 "item" 이벤트로 받음
+     * - item을 주면 찜하지 않은 상품이라도 그 상품의 변경을 함께 받음 (상품 상세 화면)
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) Long item,
+                                                HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // 프록시(nginx)가 이벤트를 모아서 보내지 않도록
+                .header("X-Accel-Buffering", "no")
+                .body(itemEventHub.subscribe(user.getId(), item));
+    }
+}
@@ -16,7 +16,10 @@ import jakarta.servlet.http.HttpSession;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
+import com.carrot.dto.SearchCursor;
 import com.carrot.dto.SearchResultDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -229,9 +232,12 @@ public class MainController {
         return "register";
     }
 
-    // 카테고리별 상품 페이지
+    // 카테고리별 상품 페이지 (지역 필터, 페이징)
     @GetMapping("/category/{category}")
     public String categoryPage(@PathVariable String category,
+                               @RequestParam(required = false) String location,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "20") int size,
                                HttpSession session,
                                Model model,
                                RedirectAttributes redirectAttributes) {
@@ -242,11 +248,18 @@ public class MainController {
         }
 
         try {
-            List<Item> items = itemService.getItemsByCategory(category);
+            String locationFilter = (location == null || location.isBlank()) ? null : location;
+            Page<Item> items = itemService.getItemsByCategoryPage(
+                    category, locationFilter, Math.max(page, 0), Math.min(Math.max(size, 1), 100));
 
             model.addAttribute("category", category);
             model.addAttribute("categoryName", getCategoryName(category));
-            model.addAttribute("items", items);
+            model.addAttribute("location", locationFilter);
+            model.addAttribute("locationCounts", itemService.getLocationCountsByCategory(category));
+            model.addAttribute("items", items.getContent());
+            model.addAttribute("totalItems", items.getTotalElements());
+            model.addAttribute("currentPage", items.getNumber());
+            model.addAttribute("totalPages", items.getTotalPages());
             model.addAttribute("user", loggedInUser);
             model.addAttribute("username", loggedInUser.getUsername());
 
@@ -283,6 +296,8 @@ public class MainController {
     public String searchResults(@RequestParam String keyword,
                                 @RequestParam(defaultValue = "all") String category,
                                 @RequestParam(defaultValue = "latest") String sort,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size,
                                 HttpSession session,
                                 Model model,
                                 RedirectAttributes redirectAttributes) {
@@ -293,11 +308,12 @@ public class MainController {
         }
 
         try {
-            // 실제 데이터베이스 검색
-            List<Item> searchResults = itemService.searchItemsWithFilters(keyword, category, sort);
+            // 현재 페이지에 해당하는 상품만 조회
+            Page<Item> searchResults = itemService.searchItemsPage(
+                    keyword, category, sort, Math.max(page, 0), Math.min(Math.max(size, 1), 100));
 
             // Item을 SearchResultDto로 변환
-            List<SearchResultDto> results = searchResults.stream()
+            List<SearchResultDto> results = searchResults.getContent().stream()
                     .map(this::convertToSearchResultDto)
                     .collect(Collectors.toList());
 
@@ -305,7 +321,10 @@ public class MainController {
             model.addAttribute("category", category);
             model.addAttribute("sort", sort);
             model.addAttribute("results", results);
-            model.addAttribute("totalResults", results.size());
+            model.addAttribute("totalResults", searchResults.getTotalElements());
+            model.addAttribute("currentPage", searchResults.getNumber());
+            model.addAttribute("totalPages", searchResults.getTotalPages());
+            model.addAttribute("size", searchResults.getSize());
             model.addAttribute("user", loggedInUser);
             model.addAttribute("username", loggedInUser.getUsername());
 
@@ -317,6 +336,52 @@ public class MainController {
         }
     }
 
+    /**
+     * 검색 결과 API - 커서 기반 페이징 (무한 스크롤용, 최신순)
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
+    @GetMapping("/api/search/items")
+    @ResponseBody
+    public Map<String, Object> searchItemsApi(@RequestParam(defaultValue = "") String keyword,
+                                              @RequestParam(defaultValue = "all") String category,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        User loggedInUser = (User) session.getAttribute("user");
+        if (loggedInUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return response;
+        }
+
+        try {
+            Slice<Item> slice = itemService.searchItemsSlice(
+                    keyword, category, SearchCursor.decode(cursor), Math.min(Math.max(size, 1), 100));
+
+            List<SearchResultDto> results = slice.getContent().stream()
+                    .map(this::convertToSearchResultDto)
+                    .collect(Collectors.toList());
+
+            String nextCursor = null;
+            if (slice.hasNext() && !slice.getContent().isEmpty()) {
+                Item last = slice.getContent().get(slice.getContent().size() - 1);
+                nextCursor = new SearchCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+
+            response.put("success", true);
+            response.put("results", results);
+            response.put("hasNext", slice.hasNext());
+            response.put("nextCursor", nextCursor);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "검색 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        return response;
+    }
+
     // Item을 SearchResultDto로 변환하는 헬퍼 메서드
     private SearchResultDto convertToSearchResultDto(Item item) {
         return new SearchResultDto(
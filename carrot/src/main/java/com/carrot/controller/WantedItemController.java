@@ -2,6 +2,7 @@ package com.carrot.controller;
 
 import com.carrot.entity.WantedItem;
 import com.carrot.entity.User;
+import com.carrot.service.WantedItemMatcher;
 import com.carrot.service.WantedItemService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -16,9 +17,15 @@ import java.util.List;
 @RequestMapping("/wanted")
 public class WantedItemController {
 
+    // 상세 페이지에 보여줄 조건에 맞는 판매 상품 수
+    private static final int MATCHING_ITEMS_LIMIT = 6;
+
     @Autowired
     private WantedItemService wantedItemService;
 
+    @Autowired
+    private WantedItemMatcher wantedItemMatcher;
+
     // 로그인 체크 헬퍼 메서드
     private User checkLogin(HttpSession session, RedirectAttributes redirectAttributes) {
         User user = (User) session.getAttribute("user");
@@ -140,6 +147,10 @@ public class WantedItemController {
 
             model.addAttribute("wantedItem", wantedItem);
             model.addAttribute("isOwner", isOwner);
+            model.addAttribute("matchingItems", wantedItemService.getMatchingItems(wantedItem, MATCHING_ITEMS_LIMIT));
+            if (isOwner) {
+                model.addAttribute("matchNotifications", wantedItemMatcher.getNotifications(user.getId(), id));
+            }
             model.addAttribute("user", user);
             model.addAttribute("username", user.getUsername());
 
@@ -1,5 +1,6 @@
 package com.carrot.controller;
 
+import com.carrot.dto.WishlistToggleResult;
 import com.carrot.entity.User;
 import com.carrot.entity.Wishlist;
 import com.carrot.service.WishlistService;
@@ -50,15 +51,14 @@ public class WishlistController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            boolean isWishlisted = wishlistService.toggleWishlist(itemId, user);
+            WishlistToggleResult result = wishlistService.toggleWishlist(itemId, user);
 
             response.put("success", true);
-            response.put("isWishlisted", isWishlisted);
-            response.put("message", isWishlisted ? "찜 목록에 추가되었습니다." : "찜 목록에서 제거되었습니다.");
+            response.put("isWishlisted", result.isWishlisted());
+            response.put("message", result.isWishlisted() ? "찜 목록에 추가되었습니다." : "찜 목록에서 제거되었습니다.");
 
-            // 현재 찜 개수도 함께 반환
-            long wishCount = wishlistService.getItemWishlistCount(itemId);
-            response.put("wishCount", wishCount);
+            // 현재 찜 개수도 함께 반환 (토글 결과에 포함된 값 사용)
+            response.put("wishCount", result.getWishCount());
 
             return ResponseEntity.ok(response);
 
@@ -225,17 +225,7 @@ public class WishlistController {
         }
 
         try {
-            List<Wishlist> itemsToRemove;
-
-            if (category != null && !category.equals("all")) {
-                itemsToRemove = wishlistService.getUserWishlistByCategory(user, category);
-            } else {
-                itemsToRemove = wishlistService.getUserWishlist(user);
-            }
-
-            for (Wishlist wishlist : itemsToRemove) {
-                wishlistService.removeFromWishlist(wishlist.getItem().getId(), user);
-            }
+            wishlistService.clearWishlist(user, category);
 
             String message = category != null && !category.equals("all")
                     ? category + " 카테고리의 관심상품이 모두 삭제되었습니다."
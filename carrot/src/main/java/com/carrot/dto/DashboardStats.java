@@ -0,0 +1,56 @@
+package com.carrot.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 대시보드 통계
+ * DashboardStatsService가 집계 쿼리로 계산해서 일정 시간 캐시해 두는 값
+ */
+public class DashboardStats {
+
+    private final long totalUsers;
+    private final long totalItems;
+    private final long todayItems;   // 최근 24시간 내 등록된 상품
+    private final long activeItems;  // 판매중 상품
+    private final LocalDateTime generatedAt;
+
+    public DashboardStats(long totalUsers, long totalItems, long todayItems, long activeItems,
+                          LocalDateTime generatedAt) {
+        this.totalUsers = totalUsers;
+        this.totalItems = totalItems;
+        this.todayItems = todayItems;
+        this.activeItems = activeItems;
+        this.generatedAt = generatedAt;
+    }
+
+    public long getTotalUsers() {
+        return totalUsers;
+    }
+
+    public long getTotalItems() {
+        return totalItems;
+    }
+
+    public long getTodayItems() {
+        return todayItems;
+    }
+
+    public long getActiveItems() {
+        return activeItems;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardStats{" +
+                "totalUsers=" + totalUsers +
+                ", totalItems=" + totalItems +
+                ", todayItems=" + todayItems +
+                ", activeItems=" + activeItems +
+                ", generatedAt=" + generatedAt +
+                '}';
+    }
+}
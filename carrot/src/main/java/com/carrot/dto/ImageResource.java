@@ -0,0 +1,71 @@
+package com.carrot.dto;
+
+import java.nio.file.Path;
+
+/**
+ * /images/** 로 내려보낼 이미지 한 개
+ * 디스크 파일(file) 또는 메모리에 올려둔 내용(bytes) 중 하나를 가짐
+ */
+public class ImageResource {
+
+    private final Path file;
+    private final byte[] bytes;
+    private final long length;
+    private final long lastModified;
+    private final String etag;
+    private final String contentType;
+    private final boolean immutable;
+
+    public ImageResource(Path file, byte[] bytes, long length, long lastModified,
+                         String etag, String contentType, boolean immutable) {
+        this.file = file;
+        this.bytes = bytes;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.contentType = contentType;
+        this.immutable = immutable;
+    }
+
+    /**
+     * 같은 이미지를 메모리에 올린 복사본
+     */
+    public ImageResource withBytes(byte[] bytes) {
+        return new ImageResource(file, bytes, length, lastModified, etag, contentType, immutable);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public boolean isInMemory() {
+        return bytes != null;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 내용이 바뀌지 않는 주소인지 (Cache-Control: immutable 대상)
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+}
@@ -0,0 +1,135 @@
+package com.carrot.dto;
+
+import com.carrot.constant.ItemSellStatus;
+import com.carrot.constant.ModerationStatus;
+import com.carrot.entity.Item;
+import com.carrot.entity.User;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 상세 페이지 캐시용 스냅샷 (상품 + 판매자 표시 정보, 생성 후 변경 불가)
+ *
+ * - 영속성 컨텍스트와 분리되어 있어 여러 요청/노드가 공유해도 안전함
+ * - 공유 캐시(다른 노드)에 저장할 수 있도록 직렬화 가능
+ */
+public class ItemDetailSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Integer price;
+    private final String category;
+    private final String location;
+    private final ItemSellStatus sellStatus;
+    private final ModerationStatus moderationStatus;
+    private final Integer viewCount;
+    private final Integer wishCount;
+    private final String imageUrl;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private final Long sellerId;
+    private final String sellerUsername;
+    private final String sellerName;
+
+    public ItemDetailSnapshot(Item item) {
+        this.id = item.getId();
+        this.title = item.getTitle();
+        this.description = item.getDescription();
+        this.price = item.getPrice();
+        this.category = item.getCategory();
+        this.location = item.getLocation();
+        this.sellStatus = item.getSellStatus();
+        this.moderationStatus = item.getModerationStatus();
+        this.viewCount = item.getViewCount();
+        this.wishCount = item.getWishCount();
+        this.imageUrl = item.getImageUrl();
+        this.createdAt = item.getCreatedAt();
+        this.updatedAt = item.getUpdatedAt();
+
+        User seller = item.getSeller();
+        this.sellerId = seller.getId();
+        this.sellerUsername = seller.getUsername();
+        this.sellerName = seller.getName();
+    }
+
+    /**
+     * 화면/컨트롤러에서 쓰던 Item 형태로 복원 (영속성 컨텍스트에 속하지 않는 새 객체)
+     * 판매자는 화면 표시에 필요한 ID/아이디/이름만 채워짐
+     */
+    public Item toItem() {
+        User seller = new User();
+        seller.setId(sellerId);
+        seller.setUsername(sellerUsername);
+        seller.setName(sellerName);
+
+        Item item = new Item(title, description, price, category, location, seller);
+        item.setId(id);
+        item.setSellStatus(sellStatus);
+        item.setModerationStatus(moderationStatus);
+        item.setViewCount(viewCount);
+        item.setWishCount(wishCount);
+        item.setImageUrl(imageUrl);
+        item.setCreatedAt(createdAt);
+        item.setUpdatedAt(updatedAt);
+        return item;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public ItemSellStatus getSellStatus() {
+        return sellStatus;
+    }
+
+    public ModerationStatus getModerationStatus() {
+        return moderationStatus;
+    }
+
+    public boolean isAvailableForSale() {
+        return sellStatus == ItemSellStatus.SELL &&
+                moderationStatus == ModerationStatus.VISIBLE;
+    }
+
+    public boolean isBlocked() {
+        return moderationStatus == ModerationStatus.BLINDED ||
+                moderationStatus == ModerationStatus.DELETED;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Integer getViewCount() {
+        return viewCount;
+    }
+
+    public Integer getWishCount() {
+        return wishCount;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+}
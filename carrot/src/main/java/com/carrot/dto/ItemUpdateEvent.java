@@ -0,0 +1,88 @@
+package com.carrot.dto;
+
+import com.carrot.constant.ItemSellStatus;
+
+/**
+ * SSE로 내려보내는 상품 변경분
+ * 관심상품/상품 상세 화면은 이 값만으로 가격과 판매 상태를 갱신 (목록을 다시 조회하지 않음)
+ */
+public class ItemUpdateEvent {
+
+    public enum Type {
+        STATUS,      // 판매 상태 변경 (판매중/예약중/판매완료)
+        PRICE,       // 가격 변경
+        MODERATION   // 관리자/자동 필터링에 의한 숨김, 복원
+    }
+
+    private final Type type;
+    private final Long itemId;
+    private final ItemSellStatus sellStatus;
+    private final Integer price;
+    private final Integer previousPrice;
+    private final boolean available;
+
+    public ItemUpdateEvent(Type type, Long itemId, ItemSellStatus sellStatus, Integer price,
+                           Integer previousPrice, boolean available) {
+        this.type = type;
+        this.itemId = itemId;
+        this.sellStatus = sellStatus;
+        this.price = price;
+        this.previousPrice = previousPrice;
+        this.available = available;
+    }
+
+    public static ItemUpdateEvent status(ItemDetailSnapshot item) {
+        return new ItemUpdateEvent(Type.STATUS, item.getId(), item.getSellStatus(), item.getPrice(), null,
+                item.isAvailableForSale());
+    }
+
+    public static ItemUpdateEvent price(ItemDetailSnapshot item, Integer previousPrice) {
+        return new ItemUpdateEvent(Type.PRICE, item.getId(), item.getSellStatus(), item.getPrice(), previousPrice,
+                item.isAvailableForSale());
+    }
+
+    public static ItemUpdateEvent moderation(ItemDetailSnapshot item) {
+        return new ItemUpdateEvent(Type.MODERATION, item.getId(), item.getSellStatus(), item.getPrice(), null,
+                item.isAvailableForSale());
+    }
+
+    /**
+     * 상품 내용 없이 ID만 아는 숨김 처리 (자동 필터링 일괄 블라인드, 삭제)
+     */
+    public static ItemUpdateEvent hidden(Long itemId) {
+        return new ItemUpdateEvent(Type.MODERATION, itemId, null, null, null, false);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public ItemSellStatus getSellStatus() {
+        return sellStatus;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public Integer getPreviousPrice() {
+        return previousPrice;
+    }
+
+    public String getFormattedPrice() {
+        return price != null ? String.format("%,d원", price) : null;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemUpdateEvent{" + type + ", itemId=" + itemId + '}';
+    }
+}
@@ -0,0 +1,80 @@
+package com.carrot.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리 로그 정리 작업 진행 상황
+ * 청크 하나가 끝날 때마다 새 객체로 교체됨
+ */
+public class LogPurgeStatus {
+
+    private final boolean running;
+    private final LocalDateTime cutoff;
+    private final long deleted;
+    private final int chunks;
+    private final String archiveFile;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+
+    public LogPurgeStatus(boolean running, LocalDateTime cutoff, long deleted, int chunks,
+                          String archiveFile, LocalDateTime startedAt, LocalDateTime finishedAt,
+                          String error) {
+        this.running = running;
+        this.cutoff = cutoff;
+        this.deleted = deleted;
+        this.chunks = chunks;
+        this.archiveFile = archiveFile;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public static LogPurgeStatus idle() {
+        return new LogPurgeStatus(false, null, 0, 0, null, null, null, null);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public LocalDateTime getCutoff() {
+        return cutoff;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public String getArchiveFile() {
+        return archiveFile;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "LogPurgeStatus{" +
+                "running=" + running +
+                ", cutoff=" + cutoff +
+                ", deleted=" + deleted +
+                ", chunks=" + chunks +
+                ", archiveFile='" + archiveFile + '\'' +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
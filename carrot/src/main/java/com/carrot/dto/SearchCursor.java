@@ -0,0 +1,60 @@
+package com.carrot.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 검색 결과 커서 (키셋 페이징용)
+ * 마지막으로 받은 상품의 (등록일, ID)를 "등록일_ID" 형태의 문자열로 주고받음
+ * 예: "2025-01-15T10:30:00.123456_42"
+ */
+public class SearchCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public SearchCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 커서를 문자열로 변환
+     */
+    public String encode() {
+        return createdAt + "_" + id;
+    }
+
+    /**
+     * 문자열을 커서로 변환 (비어 있거나 형식이 잘못되면 null = 첫 페이지)
+     */
+    public static SearchCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.lastIndexOf('_');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new SearchCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCursor{" + encode() + '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.carrot.dto;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 시스템 통계 스냅샷
+ * SystemSettingsService가 주기적으로 집계 쿼리 몇 개로 계산해 두는 값 (화면/API는 이 값을 그대로 사용)
+ */
+public class SystemStatsSnapshot {
+
+    private final Map<String, Object> systemStats;
+    private final Map<String, Long> categoryStats;
+    private final Map<String, Object> weeklyStats;
+    private final Map<String, Object> databaseInfo;
+    private final LocalDateTime generatedAt;
+
+    public SystemStatsSnapshot(Map<String, Object> systemStats,
+                               Map<String, Long> categoryStats,
+                               Map<String, Object> weeklyStats,
+                               Map<String, Object> databaseInfo,
+                               LocalDateTime generatedAt) {
+        this.systemStats = Collections.unmodifiableMap(systemStats);
+        this.categoryStats = Collections.unmodifiableMap(categoryStats);
+        this.weeklyStats = Collections.unmodifiableMap(weeklyStats);
+        this.databaseInfo = Collections.unmodifiableMap(databaseInfo);
+        this.generatedAt = generatedAt;
+    }
+
+    public Map<String, Object> getSystemStats() {
+        return systemStats;
+    }
+
+    public Map<String, Long> getCategoryStats() {
+        return categoryStats;
+    }
+
+    public Map<String, Object> getWeeklyStats() {
+        return weeklyStats;
+    }
+
+    public Map<String, Object> getDatabaseInfo() {
+        return databaseInfo;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.carrot.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매희망 조건에 맞는 상품이 등록(또는 가격 인하)되었다는 알림 한 건
+ */
+public class WantedMatchNotification {
+
+    private final Long wantedItemId;
+    private final String wantedTitle;
+    private final Long itemId;
+    private final String itemTitle;
+    private final int price;
+    private final LocalDateTime matchedAt;
+
+    public WantedMatchNotification(Long wantedItemId, String wantedTitle, Long itemId, String itemTitle,
+                                   int price, LocalDateTime matchedAt) {
+        this.wantedItemId = wantedItemId;
+        this.wantedTitle = wantedTitle;
+        this.itemId = itemId;
+        this.itemTitle = itemTitle;
+        this.price = price;
+        this.matchedAt = matchedAt;
+    }
+
+    public Long getWantedItemId() {
+        return wantedItemId;
+    }
+
+    public String getWantedTitle() {
+        return wantedTitle;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public String getItemTitle() {
+        return itemTitle;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public String getFormattedPrice() {
+        return String.format("%,d원", price);
+    }
+
+    public LocalDateTime getMatchedAt() {
+        return matchedAt;
+    }
+}
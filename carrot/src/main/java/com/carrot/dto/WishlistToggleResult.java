@@ -0,0 +1,32 @@
+package com.carrot.dto;
+
+/**
+ * 찜하기 / 찜 취소 결과
+ * 토글 후의 찜 여부와 상품의 찜 개수를 함께 돌려줌 (별도 COUNT 조회 불필요)
+ */
+public class WishlistToggleResult {
+
+    private final boolean wishlisted;
+    private final int wishCount;
+
+    public WishlistToggleResult(boolean wishlisted, int wishCount) {
+        this.wishlisted = wishlisted;
+        this.wishCount = wishCount;
+    }
+
+    public boolean isWishlisted() {
+        return wishlisted;
+    }
+
+    public int getWishCount() {
+        return wishCount;
+    }
+
+    @Override
+    public String toString() {
+        return "WishlistToggleResult{" +
+                "wishlisted=" + wishlisted +
+                ", wishCount=" + wishCount +
+                '}';
+    }
+}
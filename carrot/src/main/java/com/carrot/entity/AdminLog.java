@@ -9,7 +9,13 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "admin_log")
+@Table(name = "admin_log",
+        indexes = {
+                // 보관 기간 지난 로그 정리 시 created_at 범위 조회용
+                @Index(name = "idx_admin_log_created", columnList = "created_at, admin_log_id"),
+                // 상품별 관리 이력 / 최신 로그 조회용
+                @Index(name = "idx_admin_log_item_moderated", columnList = "item_id, moderated_at")
+        })
 @Getter
 @Setter
 @ToString
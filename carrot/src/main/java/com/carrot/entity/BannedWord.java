@@ -0,0 +1,39 @@
+package com.carrot.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 필터링 금지어
+ * ModerationEngine이 이 테이블(+ 금지어 파일)을 읽어서 매칭용 오토마톤을 만듦
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "banned_words")
+public class BannedWord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String word;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public BannedWord() {}
+
+    public BannedWord(String word) {
+        this.word = word;
+    }
+}
@@ -6,7 +6,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items",
+        indexes = {
+                // 목록/검색의 최신순 정렬 및 커서 페이징용
+                @Index(name = "idx_items_status_created", columnList = "moderation_status, created_at, item_id"),
+                @Index(name = "idx_items_category_status_created", columnList = "category, moderation_status, created_at"),
+                // 업로드 이미지 참조 확인용
+                @Index(name = "idx_items_image_url", columnList = "image_url")
+        })
 public class Item {
 
     @Id
@@ -0,0 +1,55 @@
+package com.carrot.entity;
+
+import com.carrot.constant.ModerationStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 현재 관리 상태 (admin_log의 최신 행만 모아둔 투영 테이블)
+ * - 상품당 한 행, 관리 로그가 쌓일 때마다 갱신
+ * - 블라인드 여부 확인을 로그 이력 검색 없이 기본키 조회 한 번으로 처리
+ */
+@Entity
+@Table(name = "item_moderation_state")
+@Getter
+@Setter
+@ToString
+public class ItemModerationState {
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "moderation_status", nullable = false)
+    private ModerationStatus moderationStatus;
+
+    // 이 상태를 만든 최신 관리 로그
+    @Column(name = "last_log_id")
+    private Long lastLogId;
+
+    @Column(name = "moderated_at", nullable = false)
+    private LocalDateTime moderatedAt;
+
+    public ItemModerationState() {}
+
+    /**
+     * 관리 로그로부터 현재 상태 생성
+     */
+    public static ItemModerationState from(AdminLog adminLog) {
+        ItemModerationState state = new ItemModerationState();
+        state.setItemId(adminLog.getItemId());
+        state.setModerationStatus(adminLog.getModerationStatus());
+        state.setLastLogId(adminLog.getId());
+        state.setModeratedAt(adminLog.getModeratedAt());
+        return state;
+    }
+
+    public boolean isBlocked() {
+        return moderationStatus == ModerationStatus.BLINDED || moderationStatus == ModerationStatus.DELETED;
+    }
+}
@@ -42,7 +42,7 @@ public class WantedItem {
     @Column(name = "view_count", nullable = false)
     private Integer viewCount = 0;
 
-    // 관심 개수 (나중에 관심 기능 추가 예정)
+    // 관심 개수 (조건에 맞게 등록되거나 가격이 내려간 상품 수, WantedItemMatcher가 반영)
     @Column(name = "interest_count", nullable = false)
     private Integer interestCount = 0;
 
@@ -2,7 +2,9 @@ package com.carrot.repository;
 
 import com.carrot.entity.AdminLog;
 import com.carrot.constant.ModerationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -106,6 +108,7 @@ public interface AdminLogRepository extends JpaRepository<AdminLog, Long> {
 
     /**
      * 특정 아이템이 블라인드 상태인지 확인
+     * (서비스에서는 item_moderation_state 조회를 사용, 투영 테이블 검증용으로 유지)
      *
      * @param itemId 아이템 ID
      * @return 블라인드 상태면 true
@@ -132,4 +135,35 @@ public interface AdminLogRepository extends JpaRepository<AdminLog, Long> {
     List<AdminLog> findAutoModerationLogs();
 
     long countByModeratedAtAfter(LocalDateTime dateTime);
-}
\ No newline at end of file
+
+    /**
+     * 관리 로그 집계 (시스템 통계 스냅샷용)
+     * [전체 로그 수, since 이후 로그 수]
+     */
+    @Query("SELECT COUNT(a), " +
+            "SUM(CASE WHEN a.moderatedAt > :since THEN 1 ELSE 0 END) " +
+            "FROM AdminLog a")
+    List<Object[]> aggregateLogCounts(@Param("since") LocalDateTime since);
+
+    // ===== 보관 기간 정리 =====
+
+    /**
+     * 기준 시각 이전에 생성된 로그를 오래된 순으로 조회 (created_at 인덱스 범위 조회)
+     */
+    @Query("SELECT a FROM AdminLog a WHERE a.createdAt < :cutoff ORDER BY a.createdAt ASC, a.id ASC")
+    List<AdminLog> findOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * ID 목록으로 한 번에 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM AdminLog a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 상품별 최신 관리 로그 (item_moderation_state 재구성용)
+     */
+    @Query("SELECT a FROM AdminLog a WHERE a.id IN " +
+            "(SELECT MAX(a2.id) FROM AdminLog a2 GROUP BY a2.itemId)")
+    List<AdminLog> findLatestLogPerItem();
+}
@@ -0,0 +1,26 @@
+package com.carrot.repository;
+
+import com.carrot.entity.BannedWord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BannedWordRepository extends JpaRepository<BannedWord, Long> {
+
+    // 금지어 문자열만 조회 (오토마톤 생성용)
+    @Query("SELECT b.word FROM BannedWord b ORDER BY b.id")
+    List<String> findAllWords();
+
+    // 변경 감지용 [행 수, 최대 ID]
+    @Query("SELECT COUNT(b), MAX(b.id) FROM BannedWord b")
+    List<Object[]> findVersion();
+
+    // 주어진 단어 중 이미 등록된 금지어 (추가 전 한 번에 확인)
+    @Query("SELECT b.word FROM BannedWord b WHERE b.word IN :words")
+    List<String> findExistingWords(@Param("words") Collection<String> words);
+}
@@ -0,0 +1,9 @@
+package com.carrot.repository;
+
+import com.carrot.entity.ItemModerationState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ItemModerationStateRepository extends JpaRepository<ItemModerationState, Long> {
+}
@@ -4,14 +4,21 @@ import com.carrot.entity.Item;
 import com.carrot.entity.User;
 import com.carrot.constant.ItemSellStatus;
 import com.carrot.constant.ModerationStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +33,13 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 판매 가능한 상품들만 조회 (관리자에 의해 숨겨지지 않은 상품)
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findByModerationStatusOrderByCreatedAtDesc(ModerationStatus moderationStatus);
 
     /**
      * 판매 가능한 상품들을 페이징으로 조회
      */
+    @EntityGraph(attributePaths = "seller")
     Page<Item> findByModerationStatusOrderByCreatedAtDesc(ModerationStatus moderationStatus, Pageable pageable);
 
     // ===== 카테고리별 조회 =====
@@ -38,11 +47,13 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 카테고리별 상품 조회
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findByCategoryAndModerationStatusOrderByCreatedAtDesc(String category, ModerationStatus moderationStatus);
 
     /**
      * 카테고리별 상품 조회 (페이징)
      */
+    @EntityGraph(attributePaths = "seller")
     Page<Item> findByCategoryAndModerationStatusOrderByCreatedAtDesc(String category, ModerationStatus moderationStatus, Pageable pageable);
 
     // ===== 판매자별 조회 =====
@@ -59,11 +70,13 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 특정 판매자의 상품 목록 조회 (페이징)
      */
+    @EntityGraph(attributePaths = "seller")
     Page<Item> findBySellerOrderByCreatedAtDesc(User seller, Pageable pageable);
 
     /**
      * 특정 판매자의 특정 상태 상품 조회
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findBySellerAndSellStatusOrderByCreatedAtDesc(User seller, ItemSellStatus sellStatus);
 
     // ===== 검색 기능 =====
@@ -71,6 +84,7 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 제목으로 검색 (부분 일치, 대소문자 무시)
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "AND i.moderationStatus = :moderationStatus ORDER BY i.createdAt DESC")
     List<Item> findByTitleContainingIgnoreCase(@Param("keyword") String keyword,
@@ -79,6 +93,7 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 제목 또는 설명으로 검색
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE " +
             "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
@@ -89,6 +104,7 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 카테고리와 키워드로 검색
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE " +
             "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
@@ -98,22 +114,94 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
                                         @Param("category") String category,
                                         @Param("moderationStatus") ModerationStatus moderationStatus);
 
+    /**
+     * 키워드 + 카테고리 검색 (정렬은 Sort로 DB에서 처리)
+     * - keyword가 빈 문자열이면 전체, category가 null이면 전체 카테고리
+     */
+    @EntityGraph(attributePaths = "seller")
+    @Query("SELECT i FROM Item i WHERE " +
+            "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (:category IS NULL OR i.category = :category) " +
+            "AND i.moderationStatus = :moderationStatus")
+    List<Item> searchItems(@Param("keyword") String keyword,
+                           @Param("category") String category,
+                           @Param("moderationStatus") ModerationStatus moderationStatus,
+                           Sort sort);
+
+    /**
+     * 키워드 + 카테고리 검색 (페이징, 정렬은 Pageable의 Sort로 DB에서 처리)
+     */
+    @EntityGraph(attributePaths = "seller")
+    @Query(value = "SELECT i FROM Item i WHERE " +
+            "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (:category IS NULL OR i.category = :category) " +
+            "AND i.moderationStatus = :moderationStatus",
+            countQuery = "SELECT COUNT(i) FROM Item i WHERE " +
+                    "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                    "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+                    "AND (:category IS NULL OR i.category = :category) " +
+                    "AND i.moderationStatus = :moderationStatus")
+    Page<Item> searchItems(@Param("keyword") String keyword,
+                           @Param("category") String category,
+                           @Param("moderationStatus") ModerationStatus moderationStatus,
+                           Pageable pageable);
+
+    /**
+     * 키워드 + 카테고리 검색 (커서 기반 페이징, 최신순)
+     * - (createdAt, id) 보다 이전에 등록된 상품만 조회하므로 OFFSET 없이 다음 페이지 조회
+     * - 첫 페이지는 cursorCreatedAt, cursorId를 null로 전달
+     */
+    @EntityGraph(attributePaths = "seller")
+    @Query("SELECT i FROM Item i WHERE " +
+            "(LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "AND (:category IS NULL OR i.category = :category) " +
+            "AND i.moderationStatus = :moderationStatus " +
+            "AND (:cursorCreatedAt IS NULL OR i.createdAt < :cursorCreatedAt " +
+            "     OR (i.createdAt = :cursorCreatedAt AND i.id < :cursorId)) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    Slice<Item> searchItemsAfter(@Param("keyword") String keyword,
+                                 @Param("category") String category,
+                                 @Param("moderationStatus") ModerationStatus moderationStatus,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
     // ===== 가격 범위 검색 =====
 
     /**
      * 가격 범위로 검색
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.price BETWEEN :minPrice AND :maxPrice " +
             "AND i.moderationStatus = :moderationStatus ORDER BY i.createdAt DESC")
     List<Item> findByPriceBetween(@Param("minPrice") Integer minPrice,
                                   @Param("maxPrice") Integer maxPrice,
                                   @Param("moderationStatus") ModerationStatus moderationStatus);
 
+    /**
+     * 구매희망 조건(카테고리, 지역, 최대 희망가격 이하)에 맞는 판매 중 상품 (최신순)
+     * 지역은 매칭 엔진(WantedItemMatcher)과 같게 앞뒤 공백을 뺀 값으로 비교
+     */
+    @EntityGraph(attributePaths = "seller")
+    @Query("SELECT i FROM Item i WHERE i.category = :category AND TRIM(i.location) = :location " +
+            "AND i.price <= :maxPrice AND i.sellStatus = :sellStatus " +
+            "AND i.moderationStatus = :moderationStatus ORDER BY i.createdAt DESC")
+    List<Item> findMatchingItems(@Param("category") String category,
+                                 @Param("location") String location,
+                                 @Param("maxPrice") Integer maxPrice,
+                                 @Param("sellStatus") ItemSellStatus sellStatus,
+                                 @Param("moderationStatus") ModerationStatus moderationStatus,
+                                 Pageable pageable);
+
     // ===== 지역별 검색 =====
 
     /**
      * 지역으로 검색
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findByLocationContainingIgnoreCaseAndModerationStatusOrderByCreatedAtDesc(
             String location, ModerationStatus moderationStatus);
 
@@ -141,16 +229,19 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 모든 상품 조회 (관리자용 - 상태 무관)
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findAllByOrderByCreatedAtDesc();
 
     /**
      * 특정 상태의 상품들 조회 (관리자용)
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findBySellStatusOrderByCreatedAtDesc(ItemSellStatus sellStatus);
 
     /**
      * 검토가 필요한 상품들 (신고된 상품 등)
      */
+    @EntityGraph(attributePaths = "seller")
     List<Item> findByModerationStatusInOrderByCreatedAtDesc(List<ModerationStatus> statuses);
 
     // ===== 정렬별 조회 =====
@@ -158,24 +249,28 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 가격 낮은 순으로 정렬
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.moderationStatus = :moderationStatus ORDER BY i.price ASC")
     List<Item> findByModerationStatusOrderByPriceAsc(@Param("moderationStatus") ModerationStatus moderationStatus);
 
     /**
      * 가격 높은 순으로 정렬
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.moderationStatus = :moderationStatus ORDER BY i.price DESC")
     List<Item> findByModerationStatusOrderByPriceDesc(@Param("moderationStatus") ModerationStatus moderationStatus);
 
     /**
      * 조회수 많은 순으로 정렬
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.moderationStatus = :moderationStatus ORDER BY i.viewCount DESC")
     List<Item> findByModerationStatusOrderByViewCountDesc(@Param("moderationStatus") ModerationStatus moderationStatus);
 
     /**
      * 찜 많은 순으로 정렬
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.moderationStatus = :moderationStatus ORDER BY i.wishCount DESC")
     List<Item> findByModerationStatusOrderByWishCountDesc(@Param("moderationStatus") ModerationStatus moderationStatus);
 
@@ -184,19 +279,165 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     /**
      * 최근 N개 상품 조회
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.moderationStatus = :moderationStatus ORDER BY i.createdAt DESC")
     List<Item> findRecentItems(@Param("moderationStatus") ModerationStatus moderationStatus, Pageable pageable);
 
+    /**
+     * 최근 N개 상품 + 판매자 (최근 상품 피드 구성용)
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.seller WHERE i.moderationStatus = :moderationStatus " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Item> findRecentItemsWithSeller(@Param("moderationStatus") ModerationStatus moderationStatus,
+                                         Pageable pageable);
+
     /**
      * 특정 카테고리의 최근 상품들
      */
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT i FROM Item i WHERE i.category = :category AND i.moderationStatus = :moderationStatus ORDER BY i.createdAt DESC")
     List<Item> findRecentItemsByCategory(@Param("category") String category,
                                          @Param("moderationStatus") ModerationStatus moderationStatus,
                                          Pageable pageable);
 
+    @EntityGraph(attributePaths = "seller")
     Page<Item> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    @EntityGraph(attributePaths = "seller")
     List<Item> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime cutoffDate);
 
+    @EntityGraph(attributePaths = "seller")
     List<Item> findTop6ByModerationStatusOrderByCreatedAtDesc(ModerationStatus moderationStatus);
-}
\ No newline at end of file
+
+    // ===== 검색 색인용 =====
+
+    /**
+     * ID 기준으로 끊어서 상품 조회 (검색 색인 생성용, OFFSET 없이 순차 조회)
+     */
+    @EntityGraph(attributePaths = "seller")
+    List<Item> findByModerationStatusAndIdGreaterThanOrderByIdAsc(ModerationStatus moderationStatus,
+                                                                  Long id,
+                                                                  Pageable pageable);
+
+    // ===== 찜 개수 =====
+
+    /**
+     * 찜 개수를 SQL 한 문장으로 증감 (읽고-수정-저장 없이 원자적으로 반영)
+     * 0 미만으로는 내려가지 않음
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.wishCount = i.wishCount + :delta " +
+            "WHERE i.id = :itemId AND i.wishCount + :delta >= 0")
+    int addWishCount(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    /**
+     * 현재 찜 개수만 조회
+     */
+    @Query("SELECT i.wishCount FROM Item i WHERE i.id = :itemId")
+    Optional<Integer> findWishCountById(@Param("itemId") Long itemId);
+
+    /**
+     * 판매자 ID만 조회 (상품 존재 여부 / 본인 상품 확인용)
+     */
+    @Query("SELECT i.seller.id FROM Item i WHERE i.id = :itemId")
+    Optional<Long> findSellerIdById(@Param("itemId") Long itemId);
+
+    /**
+     * 사용자가 찜한 상품들의 찜 개수를 한 문장으로 1씩 감소 (카테고리가 null이면 전체)
+     * 찜 일괄 삭제 전에 호출 (사용자당 상품별 찜은 최대 1개이므로 상품마다 -1)
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.wishCount = i.wishCount - 1 " +
+            "WHERE i.wishCount > 0 " +
+            "AND (:category IS NULL OR i.category = :category) " +
+            "AND i.id IN (SELECT w.item.id FROM Wishlist w WHERE w.user.id = :userId)")
+    int decrementWishCountsWishedBy(@Param("userId") Long userId,
+                                    @Param("category") String category);
+
+    /**
+     * 여러 상품의 찜 개수 조회 [상품ID, 찜 개수]
+     */
+    @Query("SELECT i.id, i.wishCount FROM Item i WHERE i.id IN :itemIds")
+    List<Object[]> findWishCountsByIdIn(@Param("itemIds") List<Long> itemIds);
+
+    // ===== 관리자 대시보드 통계 =====
+
+    /**
+     * 대시보드용 상품 집계 (한 번의 스캔으로 계산)
+     * [전체 상품 수, since 이후 등록된 상품 수, 판매중 상품 수]
+     */
+    @Query("SELECT COUNT(i), " +
+            "SUM(CASE WHEN i.createdAt > :since THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.sellStatus = com.carrot.constant.ItemSellStatus.SELL THEN 1 ELSE 0 END) " +
+            "FROM Item i")
+    List<Object[]> aggregateDashboardCounts(@Param("since") LocalDateTime since);
+
+    // ===== 시스템 통계 스냅샷 =====
+
+    /**
+     * 카테고리 × 관리 상태별 상품 수 [카테고리, 관리 상태, 상품 수]
+     */
+    @Query("SELECT i.category, i.moderationStatus, COUNT(i) FROM Item i " +
+            "GROUP BY i.category, i.moderationStatus")
+    List<Object[]> countGroupByCategoryAndModerationStatus();
+
+    /**
+     * 등록일 구간별 상품 수 [startOfToday 이후, weekAgo 이후]
+     */
+    @Query("SELECT SUM(CASE WHEN i.createdAt >= :startOfToday THEN 1 ELSE 0 END), " +
+            "COUNT(i) " +
+            "FROM Item i WHERE i.createdAt >= :weekAgo")
+    List<Object[]> countCreatedAtBuckets(@Param("startOfToday") LocalDateTime startOfToday,
+                                         @Param("weekAgo") LocalDateTime weekAgo);
+
+    // ===== 패싯 색인 =====
+
+    /**
+     * 패싯 색인 구성용 (ID, 카테고리, 지역, 관리 상태)를 ID 순으로 조회
+     */
+    @Query("SELECT i.id, i.category, i.location, i.moderationStatus FROM Item i " +
+            "WHERE i.id > :lastId ORDER BY i.id")
+    List<Object[]> findFacetRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // ===== 상세 페이지 =====
+
+    /**
+     * 상품 + 판매자를 한 번에 조회 (상세 페이지 캐시 적재용)
+     */
+    @Query("SELECT i FROM Item i JOIN FETCH i.seller WHERE i.id = :itemId")
+    Optional<Item> findWithSellerById(@Param("itemId") Long itemId);
+
+    /**
+     * ID 목록으로 상품 + 판매자 조회 (색인/캐시에서 얻은 ID로 목록을 만들 때 사용)
+     */
+    @EntityGraph(attributePaths = "seller")
+    List<Item> findAllWithSellerByIdIn(Collection<Long> ids);
+
+    // ===== 업로드 이미지 참조 =====
+
+    /**
+     * 주어진 이미지 URL 중 상품이 하나라도 참조하고 있는 URL (참조 없는 업로드 파일 정리용)
+     */
+    @Query("SELECT DISTINCT i.imageUrl FROM Item i WHERE i.imageUrl IN :imageUrls")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
+    // ===== 자동 필터링 =====
+
+    /**
+     * 현재 상태가 status인 상품 ID를 행 잠금과 함께 조회 (일괄 상태 변경 전에 실제로 바뀔 상품 확정)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item i WHERE i.id IN :itemIds AND i.moderationStatus = :status")
+    List<Item> findAllForUpdateByIdInAndModerationStatus(@Param("itemIds") Collection<Long> itemIds,
+                                                         @Param("status") ModerationStatus status);
+
+    /**
+     * 여러 상품의 관리 상태를 한 문장으로 변경 (현재 상태가 fromStatus인 상품만)
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.moderationStatus = :toStatus " +
+            "WHERE i.id IN :itemIds AND i.moderationStatus = :fromStatus")
+    int updateModerationStatus(@Param("itemIds") Collection<Long> itemIds,
+                               @Param("fromStatus") ModerationStatus fromStatus,
+                               @Param("toStatus") ModerationStatus toStatus);
+}
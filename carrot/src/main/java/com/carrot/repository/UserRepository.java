@@ -47,4 +47,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :startDate")
     long countNewUsersThisMonth(@Param("startDate") LocalDateTime startDate);
+
+    /**
+     * 사용자 집계 (시스템 통계 스냅샷용, 한 번의 스캔으로 계산)
+     * [전체, 활성, 관리자, startOfMonth 이후 가입, weekAgo 이후 가입]
+     */
+    @Query("SELECT COUNT(u), " +
+            "SUM(CASE WHEN u.enabled = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN u.role = 'ADMIN' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN u.createdAt >= :startOfMonth THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN u.createdAt >= :weekAgo THEN 1 ELSE 0 END) " +
+            "FROM User u")
+    List<Object[]> aggregateUserStats(@Param("startOfMonth") LocalDateTime startOfMonth,
+                                      @Param("weekAgo") LocalDateTime weekAgo);
 }
@@ -5,6 +5,7 @@ import com.carrot.entity.User;
 import com.carrot.constant.WantedStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,31 +19,37 @@ public interface WantedItemRepository extends JpaRepository<WantedItem, Long> {
     /**
      * 활성 구매희망상품들만 조회 (최신순)
      */
+    @EntityGraph(attributePaths = "buyer")
     List<WantedItem> findByWantedStatusOrderByCreatedAtDesc(WantedStatus wantedStatus);
 
     /**
      * 활성 구매희망상품들을 페이징으로 조회
      */
+    @EntityGraph(attributePaths = "buyer")
     Page<WantedItem> findByWantedStatusOrderByCreatedAtDesc(WantedStatus wantedStatus, Pageable pageable);
 
     /**
      * 카테고리별 구매희망상품 조회
      */
+    @EntityGraph(attributePaths = "buyer")
     List<WantedItem> findByCategoryAndWantedStatusOrderByCreatedAtDesc(String category, WantedStatus wantedStatus);
 
     /**
      * 특정 구매자의 구매희망상품 목록 조회
      */
+    @EntityGraph(attributePaths = "buyer")
     List<WantedItem> findByBuyerOrderByCreatedAtDesc(User buyer);
 
     /**
      * 특정 구매자의 특정 상태 구매희망상품 조회
      */
+    @EntityGraph(attributePaths = "buyer")
     List<WantedItem> findByBuyerAndWantedStatusOrderByCreatedAtDesc(User buyer, WantedStatus wantedStatus);
 
     /**
      * 제목 또는 설명으로 검색
      */
+    @EntityGraph(attributePaths = "buyer")
     @Query("SELECT w FROM WantedItem w WHERE " +
             "(LOWER(w.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(w.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
@@ -53,6 +60,7 @@ public interface WantedItemRepository extends JpaRepository<WantedItem, Long> {
     /**
      * 카테고리와 키워드로 검색
      */
+    @EntityGraph(attributePaths = "buyer")
     @Query("SELECT w FROM WantedItem w WHERE " +
             "(LOWER(w.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(w.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
@@ -75,6 +83,15 @@ public interface WantedItemRepository extends JpaRepository<WantedItem, Long> {
     /**
      * 최근 N개 구매희망상품 조회
      */
+    @EntityGraph(attributePaths = "buyer")
     @Query("SELECT w FROM WantedItem w WHERE w.wantedStatus = :wantedStatus ORDER BY w.createdAt DESC")
     List<WantedItem> findRecentWantedItems(@Param("wantedStatus") WantedStatus wantedStatus, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 매칭 색인 구성용 (ID, 구매자 ID, 제목, 최대 희망가격, 카테고리, 지역)을 ID 순으로 조회
+     */
+    @Query("SELECT w.id, w.buyer.id, w.title, w.maxPrice, w.category, w.location FROM WantedItem w " +
+            "WHERE w.wantedStatus = :wantedStatus AND w.id > :lastId ORDER BY w.id")
+    List<Object[]> findMatchRowsAfter(@Param("wantedStatus") WantedStatus wantedStatus,
+                                      @Param("lastId") Long lastId, Pageable pageable);
+}
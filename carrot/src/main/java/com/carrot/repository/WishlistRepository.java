@@ -6,10 +6,12 @@ import com.carrot.entity.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -148,4 +150,65 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
             "ORDER BY w.createdAt DESC")
     List<Wishlist> searchWishlistByUserAndKeyword(@Param("user") User user,
                                                   @Param("keyword") String keyword);
-}
\ No newline at end of file
+
+    // ===== 찜하기 / 찜 취소 (조건부 단일 문장) =====
+
+    /**
+     * 찜이 없을 때만 추가 (INSERT ... SELECT 한 문장)
+     * - 상품이 없거나 본인 상품이면 추가되지 않음
+     * - 동시에 같은 찜이 들어와도 (user_id, item_id) 유니크 키가 중복을 막음
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wishlist (user_id, item_id, created_at) " +
+            "SELECT :userId, i.item_id, :createdAt FROM items i " +
+            "WHERE i.item_id = :itemId " +
+            "AND i.seller_id <> :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM wishlist w WHERE w.user_id = :userId AND w.item_id = :itemId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("itemId") Long itemId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 찜 삭제 (조회 없이 바로 DELETE)
+     *
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM Wishlist w WHERE w.user.id = :userId AND w.item.id = :itemId")
+    int deleteByUserIdAndItemId(@Param("userId") Long userId, @Param("itemId") Long itemId);
+
+    // ===== 찜 일괄 삭제 =====
+
+    /**
+     * 사용자의 찜 상품 ID 목록 (카테고리가 null이면 전체)
+     */
+    @Query("SELECT w.item.id FROM Wishlist w " +
+            "WHERE w.user.id = :userId " +
+            "AND (:category IS NULL OR w.item.category = :category)")
+    List<Long> findItemIdsByUserIdAndCategory(@Param("userId") Long userId,
+                                              @Param("category") String category);
+
+    /**
+     * 사용자의 찜을 한 문장으로 모두 삭제 (카테고리가 null이면 전체)
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Wishlist w " +
+            "WHERE w.user.id = :userId " +
+            "AND (:category IS NULL OR w.item.id IN " +
+            "(SELECT i.id FROM Item i WHERE i.category = :category))")
+    int deleteAllByUserIdAndCategory(@Param("userId") Long userId,
+                                     @Param("category") String category);
+
+    // ===== 실시간 알림 =====
+
+    /**
+     * 상품을 찜한 사용자 ID 목록 (상품 변경을 SSE로 전달할 대상)
+     */
+    @Query("SELECT w.user.id FROM Wishlist w WHERE w.item.id = :itemId")
+    List<Long> findUserIdsByItemId(@Param("itemId") Long itemId);
+}
@@ -0,0 +1,201 @@
+package com.carrot.service;
+
+import com.carrot.dto.LogPurgeStatus;
+import com.carrot.entity.AdminLog;
+import com.carrot.repository.AdminLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 관리 로그 보관 기간 정리 서비스
+ *
+ * - created_at < 기준 시각인 로그를 chunk-size 건씩 끊어서 삭제 (청크마다 별도 트랜잭션)
+ *   → 로그가 수백만 건이어도 메모리/트랜잭션 크기가 청크 크기로 제한됨
+ * - archive-dir이 설정되어 있으면 삭제 전에 gzip 압축 JSON Lines 파일로 보관
+ * - 매일 정해진 시각(cron)에 retention-days 보다 오래된 로그를 정리
+ */
+@Slf4j
+@Service
+public class AdminLogRetentionService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Autowired
+    private AdminLogRepository adminLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${carrot.admin-log.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${carrot.admin-log.purge-chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${carrot.admin-log.archive-dir:}")
+    private String archiveDir;
+
+    // 청크마다 새 트랜잭션 (호출하는 쪽 트랜잭션에 묶이지 않도록)
+    private TransactionTemplate chunkTransaction;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile LogPurgeStatus status = LogPurgeStatus.idle();
+
+    @PostConstruct
+    public void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재(또는 마지막) 정리 작업 진행 상황
+     */
+    public LogPurgeStatus getStatus() {
+        return status;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    /**
+     * 보관 기간이 지난 로그 정리 (스케줄)
+     * retention-days가 0 이하이면 정리하지 않음
+     */
+    @Scheduled(cron = "${carrot.admin-log.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        purgeOlderThan(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 기준 시각 이전에 생성된 로그 삭제
+     *
+     * @param cutoff 이 시각 이전에 생성된 로그를 삭제
+     * @return 작업 결과 (이미 다른 정리 작업이 실행 중이면 그 작업의 진행 상황)
+     */
+    public LogPurgeStatus purgeOlderThan(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("관리 로그 정리가 이미 실행 중입니다: {}", status);
+            return status;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Path archiveFile = archiveFilePath(startedAt);
+        long deleted = 0;
+        int chunks = 0;
+        String error = null;
+        status = new LogPurgeStatus(true, cutoff, 0, 0, pathString(archiveFile), startedAt, null, null);
+
+        try (Writer archive = openArchive(archiveFile)) {
+            while (true) {
+                Integer purged = chunkTransaction.execute(tx -> purgeChunk(cutoff, archive));
+                if (purged == null || purged == 0) {
+                    break;
+                }
+                deleted += purged;
+                chunks++;
+                status = new LogPurgeStatus(true, cutoff, deleted, chunks, pathString(archiveFile), startedAt, null, null);
+                log.debug("관리 로그 정리 중: {}건 삭제 ({}번째 청크)", deleted, chunks);
+                if (purged < chunkSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            error = e.getMessage();
+            log.error("관리 로그 정리 실패 ({}건 삭제 후 중단): {}", deleted, e.getMessage(), e);
+        } finally {
+            status = new LogPurgeStatus(false, cutoff, deleted, chunks,
+                    deleted > 0 ? pathString(archiveFile) : null, startedAt, LocalDateTime.now(), error);
+            running.set(false);
+        }
+
+        // 삭제된 로그가 없으면 빈 보관 파일은 남기지 않음
+        if (archiveFile != null && deleted == 0) {
+            try {
+                Files.deleteIfExists(archiveFile);
+            } catch (IOException e) {
+                log.debug("빈 보관 파일 삭제 실패: {}", archiveFile);
+            }
+        }
+
+        log.info("관리 로그 정리 완료: 기준 {}, {}건 삭제{}", cutoff, deleted,
+                archiveFile != null && deleted > 0 ? ", 보관 파일 " + archiveFile : "");
+        return status;
+    }
+
+    /**
+     * 청크 하나 처리: 오래된 순으로 chunkSize건 조회 → (보관) → ID로 한 번에 삭제
+     */
+    private int purgeChunk(LocalDateTime cutoff, Writer archive) {
+        List<AdminLog> logs = adminLogRepository.findOlderThan(cutoff, PageRequest.of(0, chunkSize));
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        // 삭제보다 보관을 먼저 (보관 실패 시 예외로 트랜잭션 롤백)
+        if (archive != null) {
+            try {
+                for (AdminLog adminLog : logs) {
+                    archive.write(objectMapper.writeValueAsString(adminLog));
+                    archive.write('\n');
+                }
+                archive.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("관리 로그 보관 파일 쓰기 실패", e);
+            }
+        }
+
+        List<Long> ids = logs.stream().map(AdminLog::getId).toList();
+        return adminLogRepository.deleteByIdIn(ids);
+    }
+
+    private Path archiveFilePath(LocalDateTime startedAt) {
+        if (archiveDir == null || archiveDir.isBlank()) {
+            return null;
+        }
+        return Paths.get(archiveDir).resolve("admin-log-" + startedAt.format(FILE_TIME) + ".jsonl.gz");
+    }
+
+    private Writer openArchive(Path archiveFile) throws IOException {
+        if (archiveFile == null) {
+            return null;
+        }
+        Files.createDirectories(archiveFile.getParent());
+        return new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(archiveFile)), StandardCharsets.UTF_8));
+    }
+
+    private String pathString(Path path) {
+        return path != null ? path.toString() : null;
+    }
+}
@@ -2,11 +2,18 @@ package com.carrot.service;
 
 import com.carrot.entity.AdminLog;
 import com.carrot.entity.Item;
+import com.carrot.entity.ItemModerationState;
 import com.carrot.repository.AdminLogRepository;
+import com.carrot.repository.ItemModerationStateRepository;
 import com.carrot.repository.ItemRepository;
 import com.carrot.constant.ModerationStatus;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -16,6 +23,7 @@ import java.util.Optional;
 /**
  * 관리자 로그 관리를 위한 서비스 클래스
  */
+@Slf4j
 @Service
 @Transactional
 public class AdminLogService {
@@ -26,6 +34,15 @@ public class AdminLogService {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private AdminLogRetentionService adminLogRetentionService;
+
+    @Autowired
+    private ItemModerationStateRepository itemModerationStateRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * 아이템 블라인드 처리 및 로그 저장
      */
@@ -37,13 +54,14 @@ public class AdminLogService {
         // 아이템 상태를 BLINDED로 변경
         item.setModerationStatus(ModerationStatus.BLINDED);
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.moderated(item));
 
         // 관리자 로그 생성 및 저장
         AdminLog adminLog = new AdminLog();
         adminLog.setItemId(itemId);
         adminLog.blindWithReason(reason, moderatorEmail);
 
-        return adminLogRepository.save(adminLog);
+        return saveLog(adminLog);
     }
 
     /**
@@ -56,13 +74,14 @@ public class AdminLogService {
         // 아이템 상태를 DELETED로 변경
         item.setModerationStatus(ModerationStatus.DELETED);
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.moderated(item));
 
         // 관리자 로그 생성 및 저장
         AdminLog adminLog = new AdminLog();
         adminLog.setItemId(itemId);
         adminLog.deleteWithReason(reason, moderatorEmail);
 
-        return adminLogRepository.save(adminLog);
+        return saveLog(adminLog);
     }
 
     /**
@@ -75,13 +94,14 @@ public class AdminLogService {
         // 아이템 상태를 VISIBLE로 복원
         item.setModerationStatus(ModerationStatus.VISIBLE);
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.moderated(item));
 
         // 관리자 로그 생성 및 저장
         AdminLog adminLog = new AdminLog();
         adminLog.setItemId(itemId);
         adminLog.restore(moderatorEmail);
 
-        return adminLogRepository.save(adminLog);
+        return saveLog(adminLog);
     }
 
     /**
@@ -97,7 +117,9 @@ public class AdminLogService {
      */
     @Transactional(readOnly = true)
     public Optional<AdminLog> getCurrentItemStatus(Long itemId) {
-        return adminLogRepository.findTopByItemIdOrderByModeratedAtDesc(itemId);
+        return itemModerationStateRepository.findById(itemId)
+                .map(ItemModerationState::getLastLogId)
+                .flatMap(adminLogRepository::findById);
     }
 
     /**
@@ -162,7 +184,10 @@ public class AdminLogService {
      */
     @Transactional(readOnly = true)
     public boolean isItemBlocked(Long itemId) {
-        return adminLogRepository.isItemBlocked(itemId);
+        // 최신 로그를 찾는 서브쿼리 대신 상품별 현재 상태 테이블을 기본키로 조회
+        return itemModerationStateRepository.findById(itemId)
+                .map(ItemModerationState::isBlocked)
+                .orElse(false);
     }
 
     /**
@@ -193,11 +218,48 @@ public class AdminLogService {
 
     /**
      * 대량 관리 로그 삭제 (오래된 로그 정리용)
+     * 청크 단위로 각각 커밋되므로 바깥 트랜잭션 없이 실행
+     *
+     * @return 삭제된 로그 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deleteLogsOlderThan(LocalDateTime cutoffDate) {
+        return adminLogRetentionService.purgeOlderThan(cutoffDate).getDeleted();
+    }
+
+    // ===== 상품별 현재 관리 상태 (item_moderation_state) =====
+
+    /**
+     * 관리 로그 저장 + 상품별 현재 상태 갱신 (다른 서비스에서 관리 로그를 남길 때도 이 메서드 사용)
+     */
+    public AdminLog saveLog(AdminLog adminLog) {
+        AdminLog savedLog = adminLogRepository.save(adminLog);
+        itemModerationStateRepository.save(ItemModerationState.from(savedLog));
+        return savedLog;
+    }
+
+    /**
+     * 시작 시 상태 테이블이 비어 있으면 기존 관리 로그로 채움 (최초 배포 시 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initModerationStates() {
+        if (itemModerationStateRepository.count() == 0 && adminLogRepository.count() > 0) {
+            int rebuilt = rebuildModerationStates();
+            log.info("상품별 관리 상태 재구성 완료: {}건", rebuilt);
+        }
+    }
+
+    /**
+     * 관리 로그로부터 상품별 현재 상태 전체 재구성
+     *
+     * @return 재구성된 상품 수
      */
-    public void deleteLogsOlderThan(LocalDateTime cutoffDate) {
-        List<AdminLog> oldLogs = adminLogRepository.findAll();
-        oldLogs.stream()
-                .filter(log -> log.getCreatedAt().isBefore(cutoffDate))
-                .forEach(adminLogRepository::delete);
+    public int rebuildModerationStates() {
+        List<ItemModerationState> states = adminLogRepository.findLatestLogPerItem().stream()
+                .map(ItemModerationState::from)
+                .toList();
+        itemModerationStateRepository.deleteAllInBatch();
+        itemModerationStateRepository.saveAll(states);
+        return states.size();
     }
-}
\ No newline at end of file
+}
@@ -5,9 +5,9 @@ import com.carrot.constant.ModerationStatus;
 // import com.example.user.UserAccount; // 팀원 코드 받으면 주석 해제 예정
 // import com.example.user.Role; // 팀원 코드 받으면 주석 해제 예정
 import com.carrot.entity.Item;
-import com.carrot.repository.AdminLogRepository;
 import com.carrot.repository.ItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,17 +29,16 @@ public class AdminService {
     private ItemRepository itemRepository;  // 이 줄 추가
 
     @Autowired
-    private AdminLogRepository adminLogRepository;  // 이 줄 추가
+    private AdminLogService adminLogService;
 
-    /**
-     * 부적절한 단어 목록
-     * TODO: 실제 운영 시에는 DB 테이블이나 외부 설정 파일로 관리 예정
-     * TODO: 더 많은 금지어, 정규식 패턴, AI 기반 필터링 등으로 확장 가능
-     */
-    private final List<String> INAPPROPRIATE_WORDS = Arrays.asList(
-            "욕설1", "욕설2", "사기", "도둑", "가짜"
-            // 실제 운영시에는 더 많은 단어들...
-    );
+    @Autowired
+    private ModerationEngine moderationEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
 
     /**
      * 사용자가 관리자 권한을 가지고 있는지 확인 (임시 버전)
@@ -70,12 +69,8 @@ public class AdminService {
             return false;
         }
 
-        // 대소문자 구분 없이 검사하기 위해 소문자로 변환
-        String lowerContent = content.toLowerCase();
-
-        // 금지어 목록 중 하나라도 포함되어 있으면 true 반환
-        return INAPPROPRIATE_WORDS.stream()
-                .anyMatch(word -> lowerContent.contains(word.toLowerCase()));
+        // 금지어 오토마톤으로 한 번만 훑어서 검사 (첫 매칭에서 종료)
+        return bannedWordMatcher().containsAny(content);
     }
 
     /**
@@ -90,24 +85,26 @@ public class AdminService {
             return Arrays.asList();
         }
 
-        String lowerContent = content.toLowerCase();
+        // 금지어 수와 관계없이 본문을 한 번만 훑음 (자모 분해, 공백 끼워 넣기도 감지)
+        return bannedWordMatcher().findAll(content);
+    }
 
-        // 금지어 목록에서 실제로 포함된 단어들만 필터링해서 반환
-        return INAPPROPRIATE_WORDS.stream()
-                .filter(word -> lowerContent.contains(word.toLowerCase()))
-                .toList(); // Java 16+ 문법, 이전 버전은 .collect(Collectors.toList()) 사용
+    // 스프링 밖에서 생성된 경우(new AdminService())에는 기본 금지어 사용
+    private BannedWordMatcher bannedWordMatcher() {
+        return moderationEngine != null ? moderationEngine.current() : ModerationEngine.defaultMatcher();
     }
 
     /**
      * 특정 아이템을 블라인드(숨김) 처리
      * - 사용자에게는 보이지 않지만 완전 삭제는 아님
      * - 관리자만 다시 복원 가능
+     * - 상품 상태 변경, 관리 로그/현재 상태 저장, 색인/캐시 반영은 AdminLogService.blindItem 하나로 처리
      *
      * @param itemId 블라인드할 아이템 ID
      * @param reason 블라인드 처리 사유
      * @param moderatorEmail 처리하는 관리자의 이메일
      * @return 생성된 AdminLog 엔티티
-     * @throws IllegalArgumentException 관리자 권한이 없는 경우
+     * @throws IllegalArgumentException 관리자 권한이 없거나 상품이 없는 경우
      */
     public AdminLog blindItem(Long itemId, String reason, String moderatorEmail) {
         // 관리자 권한 확인 - 권한이 없으면 예외 발생
@@ -115,14 +112,18 @@ public class AdminService {
             throw new IllegalArgumentException("관리자 권한이 필요합니다.");
         }
 
-        // 새로운 관리 로그 생성
-        AdminLog adminLog = new AdminLog();
-        adminLog.setItemId(itemId);
-        adminLog.blindWithReason(reason, moderatorEmail); // 블라인드 상태로 설정
-
-        // TODO: 실제로는 AdminLogRepository.save(adminLog)로 DB에 저장
-        // TODO: 또한 실제 Item 엔티티의 상태도 업데이트 필요
-        return adminLog;
+        // 스프링 밖에서 생성된 경우(new AdminService())에는 저장 없이 로그만 만들어 반환
+        if (adminLogService == null) {
+            AdminLog adminLog = new AdminLog();
+            adminLog.setItemId(itemId);
+            adminLog.blindWithReason(reason, moderatorEmail);
+            return adminLog;
+        }
+        try {
+            return adminLogService.blindItem(itemId, reason, moderatorEmail);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -142,6 +143,7 @@ public class AdminService {
         // 상태를 DELETED로 변경 (DB에서 제거하지 않음)
         item.setModerationStatus(ModerationStatus.DELETED);
         itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.moderated(item));
 
         // 로그 기록
         AdminLog log = new AdminLog();
@@ -151,7 +153,7 @@ public class AdminService {
         log.setModeratorEmail(moderatorEmail);
         log.setModeratedAt(LocalDateTime.now());
 
-        return adminLogRepository.save(log);
+        return adminLogService.saveLog(log);
     }
 
     // 완전 삭제를 원한다면 별도 메서드 추가:
@@ -166,15 +168,18 @@ public class AdminService {
         log.setModerationReason("영구 삭제: " + reason);
         log.setModeratorEmail(moderatorEmail);
         log.setModeratedAt(LocalDateTime.now());
-        adminLogRepository.save(log);
+        adminLogService.saveLog(log);
 
         // DB에서 완전 제거
         itemRepository.delete(item);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId));
+        // 전체 상품 수가 바뀌므로 대시보드 통계를 TTL까지 기다리지 않고 다시 계산
+        TransactionCallbacks.afterCommit(dashboardStatsService::evict);
     }
 
     /**
      * 블라인드되거나 삭제된 아이템을 복원
-     * - VISIBLE 상태로 되돌림
+     * - VISIBLE 상태로 되돌림 (AdminLogService.restoreItem으로 처리)
      *
      * @param itemId 복원할 아이템 ID
      * @param moderatorEmail 처리하는 관리자의 이메일
@@ -186,11 +191,17 @@ public class AdminService {
             throw new IllegalArgumentException("관리자 권한이 필요합니다.");
         }
 
-        AdminLog adminLog = new AdminLog();
-        adminLog.setItemId(itemId);
-        adminLog.restore(moderatorEmail); // VISIBLE 상태로 복원
-
-        return adminLog;
+        if (adminLogService == null) {
+            AdminLog adminLog = new AdminLog();
+            adminLog.setItemId(itemId);
+            adminLog.restore(moderatorEmail); // VISIBLE 상태로 복원
+            return adminLog;
+        }
+        try {
+            return adminLogService.restoreItem(itemId, moderatorEmail);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -0,0 +1,291 @@
+package com.carrot.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 금지어 매칭용 Aho-Corasick 오토마톤 (생성 후 변경 불가)
+ *
+ * - 금지어 수와 관계없이 본문을 한 번만 훑어서 포함된 금지어를 모두 찾음
+ * - 한글 음절은 자모로 분해해서 비교하므로 "ㅅㅏㄱㅣ"처럼 자모로 풀어 쓴 경우도 감지
+ * - 공백/기호를 제거하고 비교하므로 "사 기", "사.기"처럼 끼워 넣은 경우도 감지
+ * - 자모 단위 비교에서 음절 경계가 어긋난 매칭("도두기"에서 "도둑")은 제외
+ */
+public class BannedWordMatcher {
+
+    // 초성/중성/종성 → 호환 자모
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private final String[] words;        // 원래 금지어 (패턴 번호 순)
+    private final int[] patternLength;   // 정규화된 패턴 길이
+
+    // 노드별 전이 (정렬된 문자 배열 + 대상 노드)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[] patternAt;       // 이 노드에서 끝나는 패턴 번호 (-1: 없음)
+    private final int[] dictionaryLink;  // 실패 링크를 따라가며 만나는 가장 가까운 패턴 노드 (-1: 없음)
+
+    private final boolean ignoreWhitespace;
+
+    public BannedWordMatcher(List<String> bannedWords) {
+        this(bannedWords, true);
+    }
+
+    /**
+     * @param bannedWords      금지어 목록 (공백/중복은 정리됨)
+     * @param ignoreWhitespace 공백/기호를 무시하고 비교할지 여부
+     */
+    public BannedWordMatcher(List<String> bannedWords, boolean ignoreWhitespace) {
+        this.ignoreWhitespace = ignoreWhitespace;
+
+        List<String> accepted = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> endPattern = new ArrayList<>();
+        trie.add(new HashMap<>());
+        endPattern.add(-1);
+
+        // 1. 트라이 구성
+        for (String word : bannedWords) {
+            if (word == null) {
+                continue;
+            }
+            char[] pattern = normalize(word.trim()).chars;
+            if (pattern.length == 0) {
+                continue;
+            }
+            int node = 0;
+            for (char c : pattern) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new HashMap<>());
+                    endPattern.add(-1);
+                }
+                node = next;
+            }
+            // 정규화 결과가 같은 금지어는 처음 것만 사용
+            if (endPattern.get(node) == -1) {
+                endPattern.set(node, accepted.size());
+                accepted.add(word.trim());
+                lengths.add(pattern.length);
+            }
+        }
+
+        int size = trie.size();
+        this.words = accepted.toArray(new String[0]);
+        this.patternLength = lengths.stream().mapToInt(Integer::intValue).toArray();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        this.failure = new int[size];
+        this.patternAt = new int[size];
+        this.dictionaryLink = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            char[] chars = new char[edges.size()];
+            int i = 0;
+            for (char c : edges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] targets = new int[chars.length];
+            for (i = 0; i < chars.length; i++) {
+                targets[i] = edges.get(chars[i]);
+            }
+            edgeChars[node] = chars;
+            edgeTargets[node] = targets;
+            patternAt[node] = endPattern.get(node);
+        }
+
+        // 2. 실패 링크 / 사전 링크 (BFS)
+        dictionaryLink[0] = -1;
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int child : edgeTargets[0]) {
+            failure[child] = 0;
+            dictionaryLink[child] = -1;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                while (fallback != 0 && next(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = next(fallback, c);
+                failure[child] = (target >= 0 && target != child) ? target : 0;
+                dictionaryLink[child] = patternAt[failure[child]] >= 0
+                        ? failure[child]
+                        : dictionaryLink[failure[child]];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * 등록된 금지어 수
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 금지어가 하나라도 포함되어 있는지 확인 (첫 매칭에서 바로 종료)
+     */
+    public boolean containsAny(String text) {
+        return !scan(text, true).isEmpty();
+    }
+
+    /**
+     * 포함된 금지어 목록 (금지어 등록 순서, 중복 없음)
+     */
+    public List<String> findAll(String text) {
+        return scan(text, false);
+    }
+
+    private List<String> scan(String text, boolean stopAtFirst) {
+        if (text == null || text.isBlank() || words.length == 0) {
+            return List.of();
+        }
+
+        Normalized normalized = normalize(text);
+        char[] chars = normalized.chars;
+        boolean[] unitStart = normalized.unitStart;
+        boolean[] found = new boolean[words.length];
+        int foundCount = 0;
+
+        int node = 0;
+        for (int pos = 0; pos < chars.length; pos++) {
+            char c = chars[pos];
+            int target;
+            while ((target = next(node, c)) < 0 && node != 0) {
+                node = failure[node];
+            }
+            node = Math.max(target, 0);
+
+            int out = patternAt[node] >= 0 ? node : dictionaryLink[node];
+            while (out >= 0) {
+                int pattern = patternAt[out];
+                if (!found[pattern] && alignedToUnits(unitStart, pos + 1 - patternLength[pattern], pos + 1)) {
+                    found[pattern] = true;
+                    foundCount++;
+                    if (stopAtFirst || foundCount == words.length) {
+                        return collect(found);
+                    }
+                }
+                out = dictionaryLink[out];
+            }
+        }
+        return collect(found);
+    }
+
+    // 매칭 시작과 끝이 모두 음절(또는 문자) 경계인지 확인
+    private boolean alignedToUnits(boolean[] unitStart, int start, int end) {
+        return unitStart[start] && (end == unitStart.length || unitStart[end]);
+    }
+
+    private List<String> collect(boolean[] found) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < found.length; i++) {
+            if (found[i]) {
+                result.add(words[i]);
+            }
+        }
+        return result;
+    }
+
+    private int next(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    // ===== 정규화 =====
+
+    /**
+     * 정규화된 문자열과 각 위치가 음절/문자 단위의 시작인지 여부
+     */
+    private static final class Normalized {
+        final char[] chars;
+        final boolean[] unitStart;
+
+        Normalized(char[] chars, boolean[] unitStart) {
+            this.chars = chars;
+            this.unitStart = unitStart;
+        }
+    }
+
+    /**
+     * 비교용 정규화
+     * - 소문자 변환, 한글 음절/조합형 자모 → 호환 자모 분해
+     * - ignoreWhitespace이면 문자/숫자가 아닌 문자(공백, 기호) 제거
+     */
+    Normalized normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length() * 2);
+        boolean[] starts = new boolean[text.length() * 3 + 1];
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                starts[out.length()] = true;
+                out.append(CHOSEONG[offset / (21 * 28)]);
+                out.append(JUNGSEONG[(offset % (21 * 28)) / 28]);
+                int jong = offset % 28;
+                if (jong > 0) {
+                    out.append(JONGSEONG[jong - 1]);
+                }
+                continue;
+            }
+
+            char jamo = toCompatibilityJamo(c);
+            if (jamo != 0) {
+                starts[out.length()] = true;
+                out.append(jamo);
+                continue;
+            }
+
+            if (ignoreWhitespace && !Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            starts[out.length()] = true;
+            out.append(c);
+        }
+
+        char[] chars = out.toString().toCharArray();
+        return new Normalized(chars, Arrays.copyOf(starts, chars.length));
+    }
+
+    // 조합형 자모(U+1100대)를 호환 자모(U+3130대)로 변환, 자모가 아니면 0
+    private static char toCompatibilityJamo(char c) {
+        if (c >= 0x3131 && c <= 0x318E) {
+            return c;
+        }
+        if (c >= 0x1100 && c < 0x1100 + CHOSEONG.length) {
+            return CHOSEONG[c - 0x1100];
+        }
+        if (c >= 0x1161 && c < 0x1161 + JUNGSEONG.length) {
+            return JUNGSEONG[c - 0x1161];
+        }
+        if (c >= 0x11A8 && c < 0x11A8 + JONGSEONG.length) {
+            return JONGSEONG[c - 0x11A8];
+        }
+        return 0;
+    }
+}
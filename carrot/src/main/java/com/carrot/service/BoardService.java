@@ -15,15 +15,21 @@ import java.util.List;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final ViewCountAggregator viewCountAggregator;
 
+    @Transactional(readOnly = true)
     public List<Board> getBoardList(String boardType) {
         return boardRepository.findByBoardTypeOrderByCreatedAtDesc(boardType);
     }
 
+    // 조회수는 ViewCountAggregator가 주기적으로 DB에 반영
+    @Transactional(readOnly = true)
     public Board getBoard(Long id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        board.setViewCount(board.getViewCount() + 1);
+        viewCountAggregator.increment(ViewCountAggregator.Target.BOARD, id);
+        board.setViewCount(viewCountAggregator.currentViewCount(
+                ViewCountAggregator.Target.BOARD, id, board.getViewCount()));
         return board;
     }
 
@@ -35,6 +41,7 @@ public class BoardService {
         boardRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Board> searchBoard(String boardType, String keyword) {
         return boardRepository.findByBoardTypeAndTitleContainingOrderByCreatedAtDesc(boardType, keyword);
     }
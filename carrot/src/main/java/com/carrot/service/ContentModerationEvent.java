@@ -0,0 +1,43 @@
+package com.carrot.service;
+
+/**
+ * 자동 필터링 요청 이벤트
+ * 상품/구매희망상품이 등록되거나 수정되면 발행되고, 커밋 이후 ModerationPipeline이 처리
+ * (내용은 처리 시점에 DB에서 다시 읽으므로 ID만 전달)
+ */
+public class ContentModerationEvent {
+
+    public enum Target {
+        ITEM,
+        WANTED_ITEM
+    }
+
+    private final Target target;
+    private final Long id;
+
+    public ContentModerationEvent(Target target, Long id) {
+        this.target = target;
+        this.id = id;
+    }
+
+    public static ContentModerationEvent item(Long itemId) {
+        return new ContentModerationEvent(Target.ITEM, itemId);
+    }
+
+    public static ContentModerationEvent wantedItem(Long wantedItemId) {
+        return new ContentModerationEvent(Target.WANTED_ITEM, wantedItemId);
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ContentModerationEvent{" + target + ", id=" + id + '}';
+    }
+}
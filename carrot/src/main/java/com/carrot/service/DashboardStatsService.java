@@ -0,0 +1,94 @@
+package com.carrot.service;
+
+import com.carrot.dto.DashboardStats;
+import com.carrot.repository.ItemRepository;
+import com.carrot.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관리자 대시보드 통계 서비스
+ * - 엔티티 목록을 불러와 세는 대신 테이블별 집계 쿼리 한 번으로 계산
+ * - 계산 결과는 carrot.admin.dashboard-stats-ttl-ms 동안 재사용
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardStatsService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Value("${carrot.admin.dashboard-stats-ttl-ms:30000}")
+    private long ttlMillis;
+
+    private volatile DashboardStats cached;
+    private volatile long cachedAtMillis;
+
+    // synchronized 대신 ReentrantLock: 집계 쿼리를 기다리는 동안 가상 스레드가 캐리어 스레드를 붙잡지 않음
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 대시보드 통계 조회 (캐시가 만료되었으면 다시 계산)
+     */
+    public DashboardStats getStats() {
+        DashboardStats stats = cached;
+        if (stats != null && System.currentTimeMillis() - cachedAtMillis < ttlMillis) {
+            return stats;
+        }
+        return refresh();
+    }
+
+    /**
+     * 통계를 다시 계산해서 캐시에 저장
+     * 여러 요청이 동시에 만료된 캐시를 보더라도 집계는 한 번만 실행
+     */
+    public DashboardStats refresh() {
+        refreshLock.lock();
+        try {
+            DashboardStats stats = cached;
+            if (stats != null && System.currentTimeMillis() - cachedAtMillis < ttlMillis) {
+                return stats;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            long totalUsers = userRepository.count();
+
+            List<Object[]> rows = itemRepository.aggregateDashboardCounts(now.minusDays(1));
+            Object[] itemCounts = rows.isEmpty() ? new Object[3] : rows.get(0);
+
+            stats = new DashboardStats(
+                    totalUsers,
+                    toLong(itemCounts[0]),
+                    toLong(itemCounts[1]),
+                    toLong(itemCounts[2]),
+                    now);
+
+            cached = stats;
+            cachedAtMillis = System.currentTimeMillis();
+            return stats;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 다시 계산)
+     */
+    public void evict() {
+        cached = null;
+    }
+
+    // 상품이 하나도 없으면 SUM 결과가 null
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
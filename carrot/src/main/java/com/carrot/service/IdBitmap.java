@@ -0,0 +1,410 @@
+package com.carrot.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 상품 ID 집합용 압축 비트맵 (Roaring 비트맵 방식)
+ *
+ * - ID를 상위 비트(65536개 단위 구간)로 나누고, 구간마다 저장 방식을 따로 선택
+ *   - 4096개 이하: 정렬된 char 배열 (드문드문한 구간)
+ *   - 4096개 초과: 65536비트 비트맵 (빽빽한 구간, 8KB 고정)
+ * - 교집합은 구간 단위로 배열 병합 / 비트맵 AND로 계산하므로 원소 수에 비해 빠름
+ * - 스레드 안전하지 않음 (ItemFacetIndex가 잠금으로 보호)
+ */
+public class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    // 상위 비트(id >>> 16) -> 구간
+    private final TreeMap<Long, Container> containers = new TreeMap<>();
+
+    public void add(long id) {
+        long key = id >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            container = new ArrayContainer();
+        }
+        containers.put(key, container.add((char) id));
+    }
+
+    public void remove(long id) {
+        long key = id >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            return;
+        }
+        Container updated = container.remove((char) id);
+        if (updated.cardinality() == 0) {
+            containers.remove(key);
+        } else {
+            containers.put(key, updated);
+        }
+    }
+
+    public boolean contains(long id) {
+        Container container = containers.get(id >>> 16);
+        return container != null && container.contains((char) id);
+    }
+
+    public long cardinality() {
+        long total = 0;
+        for (Container container : containers.values()) {
+            total += container.cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+
+    /**
+     * 교집합 (새 비트맵)
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        forEachCommonKey(other, (key, mine, theirs) -> {
+            Container common = mine.and(theirs);
+            if (common.cardinality() > 0) {
+                result.containers.put(key, common);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 교집합 원소 수 (비트맵을 만들지 않고 계산)
+     */
+    public long andCardinality(IdBitmap other) {
+        long[] total = {0};
+        forEachCommonKey(other, (key, mine, theirs) -> total[0] += mine.andCardinality(theirs));
+        return total[0];
+    }
+
+    /**
+     * 큰 ID부터 offset개 건너뛰고 limit개
+     */
+    public List<Long> descending(long offset, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Long> result = new ArrayList<>(Math.min(limit, 1024));
+        long[] skip = {offset};
+        for (Map.Entry<Long, Container> entry : containers.descendingMap().entrySet()) {
+            Container container = entry.getValue();
+            if (skip[0] >= container.cardinality()) {
+                skip[0] -= container.cardinality();
+                continue;
+            }
+            long base = entry.getKey() << 16;
+            boolean more = container.forEachDescending(low -> {
+                if (skip[0] > 0) {
+                    skip[0]--;
+                    return true;
+                }
+                result.add(base | low);
+                return result.size() < limit;
+            });
+            if (!more) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private interface ContainerPair {
+        void accept(Long key, Container mine, Container theirs);
+    }
+
+    private void forEachCommonKey(IdBitmap other, ContainerPair action) {
+        Iterator<Map.Entry<Long, Container>> left = containers.entrySet().iterator();
+        Iterator<Map.Entry<Long, Container>> right = other.containers.entrySet().iterator();
+        if (!left.hasNext() || !right.hasNext()) {
+            return;
+        }
+        Map.Entry<Long, Container> a = left.next();
+        Map.Entry<Long, Container> b = right.next();
+        while (true) {
+            int compare = Long.compare(a.getKey(), b.getKey());
+            if (compare == 0) {
+                action.accept(a.getKey(), a.getValue(), b.getValue());
+                if (!left.hasNext() || !right.hasNext()) {
+                    return;
+                }
+                a = left.next();
+                b = right.next();
+            } else if (compare < 0) {
+                if (!left.hasNext()) {
+                    return;
+                }
+                a = left.next();
+            } else {
+                if (!right.hasNext()) {
+                    return;
+                }
+                b = right.next();
+            }
+        }
+    }
+
+    // ===== 구간 =====
+
+    private interface Container {
+        Container add(char low);
+
+        Container remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        int andCardinality(Container other);
+
+        /**
+         * 큰 값부터 순회, action이 false를 반환하면 중단하고 false 반환
+         */
+        boolean forEachDescending(LongPredicate action);
+    }
+
+    /**
+     * 정렬된 배열 구간 (원소 4096개 이하)
+     */
+    private static final class ArrayContainer implements Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size >= ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(size * 2, 4), ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] common = new char[Math.min(size, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] == array.values[j]) {
+                        common[count++] = values[i];
+                        i++;
+                        j++;
+                    } else if (values[i] < array.values[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        common[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(common, count);
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] == array.values[j]) {
+                        count++;
+                        i++;
+                        j++;
+                    } else if (values[i] < array.values[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean forEachDescending(LongPredicate action) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (!action.test(values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 비트맵 구간 (65536비트 = long 1024개)
+     */
+    private static final class BitmapContainer implements Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before | (1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before & ~(1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] common = new long[1024];
+            int count = 0;
+            for (int i = 0; i < common.length; i++) {
+                common[i] = words[i] & otherWords[i];
+                count += Long.bitCount(common[i]);
+            }
+            BitmapContainer result = new BitmapContainer(common, count);
+            return count <= ARRAY_MAX ? result.toArray() : result;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean forEachDescending(LongPredicate action) {
+            for (int i = words.length - 1; i >= 0; i--) {
+                long word = words[i];
+                while (word != 0) {
+                    int bit = 63 - Long.numberOfLeadingZeros(word);
+                    if (!action.test(((long) i << 6) | bit)) {
+                        return false;
+                    }
+                    word &= ~(1L << bit);
+                }
+            }
+            return true;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    values[count++] = (char) ((i << 6) | bit);
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
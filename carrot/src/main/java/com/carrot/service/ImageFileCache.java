@@ -0,0 +1,247 @@
+package com.carrot.service;
+
+import com.carrot.dto.ImageResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * /images/** 경로 → 이미지 파일 조회 + 자주 쓰는 작은 이미지의 메모리 캐시(LRU)
+ *
+ * - 찾는 순서는 기존 정적 리소스 설정과 같음: classpath:/static/images/ → 업로드 폴더
+ *   (내용 주소 경로 ab/cd/해시... 는 업로드 폴더에만 있으므로 바로 업로드 폴더 확인)
+ * - 목록 화면마다 반복해서 나가는 썸네일과 jar 안의 정적 이미지만 메모리에 올림
+ *   (항목당 entry-bytes 이하, 전체 max-bytes 이하, 오래 안 쓴 것부터 제거)
+ * - 디스크 파일을 캐시한 항목은 ttl-ms마다 크기/수정 시각을 다시 확인
+ */
+@Component
+public class ImageFileCache {
+
+    private static final String CLASSPATH_DIR = "static/images/";
+    private static final String THUMB_SUFFIX = "_thumb.jpg";
+
+    private static final class Entry {
+        final ImageResource image;
+        final long checkAt;
+
+        Entry(ImageResource image, long checkAt) {
+            this.image = image;
+            this.checkAt = checkAt;
+        }
+    }
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Value("${carrot.image.memory-cache-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${carrot.image.memory-cache-entry-bytes:131072}")
+    private long maxEntryBytes;
+
+    @Value("${carrot.image.memory-cache-ttl-ms:60000}")
+    private long ttlMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 경로에 해당하는 이미지 (없으면 null)
+     *
+     * @param path /images/ 뒤의 경로 (예: ab/cd/해시_thumb.jpg, electronics/phone.jpg)
+     */
+    public ImageResource find(String path) throws IOException {
+        if (!isSafe(path)) {
+            return null;
+        }
+        Entry entry = getEntry(path);
+        if (entry != null && (entry.checkAt > System.currentTimeMillis() || unchanged(entry.image))) {
+            hits.increment();
+            RequestPerf.cacheHit();
+            if (entry.checkAt <= System.currentTimeMillis()) {
+                put(path, entry.image);
+            }
+            return entry.image;
+        }
+
+        misses.increment();
+        ImageResource image = load(path);
+        if (image == null) {
+            remove(path);
+            return null;
+        }
+        if (image.getLength() <= maxEntryBytes && (image.isInMemory() || path.endsWith(THUMB_SUFFIX))) {
+            if (!image.isInMemory()) {
+                image = image.withBytes(Files.readAllBytes(image.getFile()));
+            }
+            put(path, image);
+        }
+        return image;
+    }
+
+    public Map<String, Object> getStats() {
+        lock.lock();
+        try {
+            return Map.of("entries", entries.size(), "bytes", totalBytes,
+                    "hits", hits.sum(), "misses", misses.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 조회 =====
+
+    private ImageResource load(String path) throws IOException {
+        if (!ImageStorageService.isContentAddressed(path)) {
+            ImageResource image = loadClasspath(path);
+            if (image != null) {
+                return image;
+            }
+        }
+        Path file = imageStorageService.findFile(path);
+        if (file == null) {
+            return null;
+        }
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String hash = ImageStorageService.contentHash(path);
+        // 내용 주소 원본은 해시가 곧 내용이므로 그대로 ETag로 사용
+        String etag = hash != null ? quote(hash) : etag(length, lastModified);
+        return new ImageResource(file, null, length, lastModified, etag, contentType(path),
+                ImageStorageService.isContentAddressed(path));
+    }
+
+    private ImageResource loadClasspath(String path) throws IOException {
+        ClassPathResource resource = new ClassPathResource(CLASSPATH_DIR + path);
+        if (!resource.exists()) {
+            return null;
+        }
+        long lastModified = resource.lastModified();
+        if (resource.isFile()) {
+            Path file = resource.getFile().toPath();
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            long length = Files.size(file);
+            return new ImageResource(file, null, length, lastModified, etag(length, lastModified),
+                    contentType(path), false);
+        }
+        // jar 안의 리소스는 파일 경로가 없으므로 메모리로 읽음
+        byte[] bytes;
+        try (InputStream in = resource.getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+        return new ImageResource(null, bytes, bytes.length, lastModified, etag(bytes.length, lastModified),
+                contentType(path), false);
+    }
+
+    private static boolean unchanged(ImageResource image) {
+        if (image.getFile() == null) {
+            return true;
+        }
+        try {
+            return Files.size(image.getFile()) == image.getLength()
+                    && Files.getLastModifiedTime(image.getFile()).toMillis() == image.getLastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // ../, 절대 경로, 역슬래시 등 폴더 밖을 가리킬 수 있는 경로 거부
+    private static boolean isSafe(String path) {
+        return !path.isEmpty()
+                && !path.startsWith("/")
+                && !path.contains("..")
+                && !path.contains("\\")
+                && !path.contains(":")
+                && !path.contains("//");
+    }
+
+    private static String etag(long length, long lastModified) {
+        return quote(Long.toHexString(length) + "-" + Long.toHexString(lastModified));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static String contentType(String path) {
+        String name = path.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+            return "image/jpeg";
+        }
+        if (name.endsWith(".png")) {
+            return "image/png";
+        }
+        if (name.endsWith(".gif")) {
+            return "image/gif";
+        }
+        if (name.endsWith(".webp")) {
+            return "image/webp";
+        }
+        if (name.endsWith(".svg")) {
+            return "image/svg+xml";
+        }
+        if (name.endsWith(".ico")) {
+            return "image/x-icon";
+        }
+        return "application/octet-stream";
+    }
+
+    // ===== LRU =====
+
+    private Entry getEntry(String path) {
+        lock.lock();
+        try {
+            return entries.get(path);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String path, ImageResource image) {
+        lock.lock();
+        try {
+            Entry previous = entries.put(path, new Entry(image, System.currentTimeMillis() + ttlMs));
+            if (previous != null) {
+                totalBytes -= previous.image.getLength();
+            }
+            totalBytes += image.getLength();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().image.getLength();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String path) {
+        lock.lock();
+        try {
+            Entry previous = entries.remove(path);
+            if (previous != null) {
+                totalBytes -= previous.image.getLength();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
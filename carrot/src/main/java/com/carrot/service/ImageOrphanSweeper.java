@@ -0,0 +1,94 @@
+package com.carrot.service;
+
+import com.carrot.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 참조 없는 업로드 이미지 정리
+ *
+ * - 상품 삭제(deleteItem), 이미지 교체, /api/file/delete 후 남은 내용 주소 파일을 주기적으로 삭제
+ * - 참조 수는 별도 컬럼 없이 Item.imageUrl에서 확인 (chunk-size개씩 IN 조회, image_url 인덱스 사용)
+ * - 업로드 후 상품 등록 전인 파일을 지우지 않도록 마지막 업로드로부터 orphan-grace-ms가 지난 파일만 대상
+ */
+@Slf4j
+@Component
+public class ImageOrphanSweeper {
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Value("${carrot.image.orphan-grace-ms:86400000}")
+    private long graceMs;
+
+    @Value("${carrot.image.sweep-chunk-size:500}")
+    private int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(initialDelayString = "${carrot.image.sweep-interval-ms:3600000}",
+            fixedDelayString = "${carrot.image.sweep-interval-ms:3600000}")
+    public void sweepOrphans() {
+        sweep(Instant.now().minusMillis(graceMs));
+    }
+
+    /**
+     * cutoff 이전에 마지막으로 업로드됐고 어떤 상품도 참조하지 않는 이미지 삭제
+     *
+     * @return 삭제한 파일 수 (이미 실행 중이면 0)
+     */
+    public int sweep(Instant cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        int scanned = 0;
+        int deleted = 0;
+        try (Stream<String> candidates = imageStorageService.staleImageUrls(cutoff)) {
+            Iterator<String> iterator = candidates.iterator();
+            List<String> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    scanned += chunk.size();
+                    deleted += deleteUnreferenced(chunk, cutoff);
+                    chunk.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("업로드 이미지 정리 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        if (deleted > 0) {
+            log.info("참조 없는 업로드 이미지 {}개 삭제 (확인 {}개)", deleted, scanned);
+        }
+        return deleted;
+    }
+
+    private int deleteUnreferenced(List<String> imageUrls, Instant cutoff) throws IOException {
+        Set<String> referenced = new HashSet<>(itemRepository.findReferencedImageUrls(imageUrls));
+        int deleted = 0;
+        for (String imageUrl : imageUrls) {
+            if (!referenced.contains(imageUrl) && imageStorageService.deleteIfStale(imageUrl, cutoff)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
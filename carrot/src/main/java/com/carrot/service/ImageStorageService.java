@@ -0,0 +1,551 @@
+package com.carrot.service;
+
+import com.carrot.constant.ImageFormat;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 이미지 저장 + 크기별 변환 이미지 생성
+ *
+ * - 업로드 스트림을 NIO 채널로 임시 파일에 복사하면서 앞부분 매직 바이트로 형식 검사
+ *   (Content-Type/확장자는 믿지 않고, 저장 확장자도 판별된 형식으로 결정)
+ * - 복사하면서 SHA-256을 계산해 내용 주소(해시)로 저장: ab/cd/abcd....jpg
+ *   → 같은 사진을 다시 올리면 기존 파일을 그대로 사용, 폴더는 해시 앞자리로 나눠 한 폴더에 몰리지 않음
+ *   → 내용이 바뀌면 주소도 바뀌므로 브라우저가 영구 캐시해도 됨
+ * - 내용 주소 파일은 여러 상품이 같이 쓸 수 있어서 바로 지우지 않고,
+ *   상품이 참조하지 않는 파일을 ImageOrphanSweeper가 주기적으로 정리
+ * - 저장이 끝나면 백그라운드 작업자가 썸네일(정사각형)과 중간 크기 JPEG를 생성
+ *   (원본명_thumb.jpg / 원본명_medium.jpg, 임시 파일에 쓴 뒤 교체하므로 반쯤 쓰인 파일이 노출되지 않음)
+ * - 화면에서는 thumbnailUrl/mediumUrl로 변환 이미지 주소를 받고, 아직 준비되지 않았으면 원본 주소 사용
+ */
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    public static final String URL_PREFIX = "/images/";
+
+    private static final String THUMB_SUFFIX = "_thumb.jpg";
+    private static final String MEDIUM_SUFFIX = "_medium.jpg";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int LOCK_STRIPES = 64;
+    // 내용 주소 파일명 / 업로드 폴더 기준 경로 (ab/cd/해시.확장자)
+    private static final Pattern CONTENT_NAME = Pattern.compile("([0-9a-f]{2})([0-9a-f]{2})[0-9a-f]{60}\\.[a-z]+");
+    private static final Pattern CONTENT_PATH = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.[a-z]+");
+    // 내용 주소 원본 + 변환 이미지 (이름이 바뀌지 않는 한 내용도 바뀌지 않음)
+    private static final Pattern CONTENT_FILE = Pattern.compile(
+            "[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(_thumb|_medium)?\\.[a-z]+");
+    // 압축 폭탄 방지 - 이보다 해상도가 큰 원본은 변환하지 않음
+    private static final long MAX_PIXELS = 100_000_000L;
+
+    @Value("${file.upload.dir:uploads/images}")
+    private String uploadDir;
+
+    @Value("${carrot.image.thumbnail-size:300}")
+    private int thumbnailSize;
+
+    @Value("${carrot.image.medium-size:1024}")
+    private int mediumSize;
+
+    @Value("${carrot.image.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${carrot.image.workers:2}")
+    private int workerCount;
+
+    @Value("${carrot.image.queue-capacity:100}")
+    private int queueCapacity;
+
+    private Path root;
+    private ThreadPoolExecutor executor;
+
+    // 변환 이미지가 모두 준비된 원본 파일명
+    private final Set<String> ready = ConcurrentHashMap.newKeySet();
+
+    // 같은 파일의 중복 업로드 확인과 정리 삭제가 겹치지 않도록 경로별로 나눠 잠금
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public ImageStorageService() {
+    }
+
+    ImageStorageService(Path root, int thumbnailSize, int mediumSize) {
+        this.uploadDir = root.toString();
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.jpegQuality = 0.8f;
+        this.workerCount = 1;
+        this.queueCapacity = 10;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        // 이미지 디코딩은 CPU/메모리를 많이 쓰므로 작업자 수를 고정하고,
+        // 대기열이 가득 차면 업로드 요청 스레드에서 직접 변환 (요청 유실 방지)
+        executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variant-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // ===== 저장 / 삭제 =====
+
+    /**
+     * 업로드 파일을 내용 주소로 저장 후 변환 이미지 생성 요청
+     * (같은 내용이 이미 있으면 새로 쓰지 않고 기존 파일의 수정 시각만 갱신)
+     *
+     * @return 업로드 폴더 기준 경로 ab/cd/해시.확장자 (웹 주소는 URL_PREFIX + 경로)
+     * @throws IllegalArgumentException 지원하지 않는 이미지 형식
+     */
+    public String store(MultipartFile file) throws IOException {
+        MessageDigest digest = newDigest();
+        Path temp = tempFile("upload-");
+        try {
+            ImageFormat format;
+            try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                format = copy(in, out, digest);
+            }
+            String key = contentPath(HexFormat.of().formatHex(digest.digest()) + "." + format.getExtension());
+            Path target = root.resolve(key);
+
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                if (Files.exists(target)) {
+                    // 중복 업로드 - 정리 대상에서 다시 유예되도록 수정 시각 갱신
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (!ready.contains(key)) {
+                executor.execute(() -> generateVariants(key));
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Files.createTempFile은 소유자 전용 권한(600)으로 만들어 그대로 옮기면 다른 프로세스가 읽지 못하므로 이름만 정함
+    private Path tempFile(String prefix) {
+        return root.resolve(prefix + UUID.randomUUID() + TEMP_SUFFIX);
+    }
+
+    /**
+     * 버퍼 단위로 복사하면서 첫 부분의 매직 바이트로 형식 판별 + 내용 해시 계산
+     */
+    private ImageFormat copy(ReadableByteChannel in, FileChannel out, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (buffer.position() < ImageFormat.MAGIC_LENGTH && in.read(buffer) != -1) {
+            // 판별에 필요한 바이트가 모일 때까지 읽기
+        }
+        byte[] head = new byte[ImageFormat.MAGIC_LENGTH];
+        int headLength = Math.min(buffer.position(), head.length);
+        buffer.get(0, head, 0, headLength);
+        ImageFormat format = ImageFormat.detect(head, headLength);
+        if (format == null) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif만 가능)");
+        }
+
+        do {
+            buffer.flip();
+            digest.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        } while (in.read(buffer) != -1);
+        return format;
+    }
+
+    /**
+     * 업로드 이미지 사용 해제
+     *
+     * - 내용 주소 파일: 다른 상품/업로드가 같은 파일을 쓰고 있을 수 있으므로 여기서는 지우지 않음
+     *   (참조가 없으면 유예 기간 뒤 ImageOrphanSweeper가 삭제)
+     * - 이전 방식(UUID 이름) 파일: 업로드마다 따로 저장되므로 원본과 변환 이미지를 바로 삭제
+     *
+     * @param filename 파일명 (내용 주소 파일은 해시.확장자만 넘겨도 됨)
+     * @return 파일이 있었으면 true
+     * @throws IllegalArgumentException 업로드 폴더 밖을 가리키는 파일명
+     */
+    public boolean delete(String filename) throws IOException {
+        if (CONTENT_NAME.matcher(filename).matches() || CONTENT_PATH.matcher(filename).matches()) {
+            return Files.exists(root.resolve(contentPath(filename)));
+        }
+        Path original = root.resolve(filename).normalize();
+        // ../ 등으로 업로드 폴더 밖을 가리키면 거부
+        if (!root.equals(original.getParent())) {
+            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        }
+        ready.remove(filename);
+        deleteVariants(filename);
+        return Files.deleteIfExists(original);
+    }
+
+    // ===== 이미지 전송 (ImageFileCache) =====
+
+    /**
+     * 업로드 폴더 기준 경로의 파일 (없거나 업로드 폴더 밖이면 null)
+     */
+    public Path findFile(String path) {
+        Path file = root.resolve(path).normalize();
+        return file.startsWith(root) && Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * 내용 주소 파일(원본/변환 이미지)인지 - 브라우저가 영구 캐시해도 되는 경로
+     */
+    public static boolean isContentAddressed(String path) {
+        return CONTENT_FILE.matcher(path).matches();
+    }
+
+    /**
+     * 내용 주소 원본이면 내용 해시, 아니면 null
+     */
+    public static String contentHash(String path) {
+        Matcher matcher = CONTENT_FILE.matcher(path);
+        return matcher.matches() && matcher.group(2) == null ? matcher.group(1) : null;
+    }
+
+    // ===== 참조 없는 파일 정리 (ImageOrphanSweeper) =====
+
+    /**
+     * cutoff 이전에 마지막으로 업로드된 내용 주소 원본 이미지의 웹 주소
+     * (사용 후 반드시 close - 폴더를 순회하는 스트림)
+     */
+    public Stream<String> staleImageUrls(Instant cutoff) throws IOException {
+        return Files.walk(root, 3)
+                .filter(Files::isRegularFile)
+                .map(this::relativeKey)
+                .filter(key -> CONTENT_PATH.matcher(key).matches())
+                .filter(key -> modifiedBefore(root.resolve(key), cutoff))
+                .map(key -> URL_PREFIX + key);
+    }
+
+    /**
+     * 내용 주소 이미지가 cutoff 이후 다시 업로드되지 않았으면 원본과 변환 이미지 삭제
+     * (참조 확인과 삭제 사이에 같은 사진이 다시 올라온 경우를 막기 위해 잠금 안에서 시각을 다시 확인)
+     *
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfStale(String imageUrl, Instant cutoff) throws IOException {
+        String key = imageUrl.substring(URL_PREFIX.length());
+        if (!CONTENT_PATH.matcher(key).matches()) {
+            return false;
+        }
+        Path original = root.resolve(key);
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (!Files.exists(original) || !modifiedBefore(original, cutoff)) {
+                return false;
+            }
+            ready.remove(key);
+            deleteVariants(key);
+            Files.delete(original);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean modifiedBefore(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 해시.확장자 → ab/cd/해시.확장자 (이미 경로 형태면 그대로)
+     */
+    private static String contentPath(String name) {
+        Matcher matcher = CONTENT_NAME.matcher(name);
+        return matcher.matches() ? matcher.group(1) + "/" + matcher.group(2) + "/" + name : name;
+    }
+
+    private String relativeKey(Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteVariants(String filename) throws IOException {
+        Files.deleteIfExists(root.resolve(variantName(filename, THUMB_SUFFIX)));
+        Files.deleteIfExists(root.resolve(variantName(filename, MEDIUM_SUFFIX)));
+    }
+
+    // ===== 화면용 주소 =====
+
+    /**
+     * 목록용 썸네일 주소 (준비 전이거나 업로드 이미지가 아니면 원본 주소)
+     */
+    public String thumbnailUrl(String imageUrl) {
+        return variantUrl(imageUrl, THUMB_SUFFIX);
+    }
+
+    /**
+     * 상세 화면용 중간 크기 이미지 주소 (준비 전이거나 업로드 이미지가 아니면 원본 주소)
+     */
+    public String mediumUrl(String imageUrl) {
+        return variantUrl(imageUrl, MEDIUM_SUFFIX);
+    }
+
+    private String variantUrl(String imageUrl, String suffix) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return imageUrl;
+        }
+        String filename = imageUrl.substring(URL_PREFIX.length());
+        return ready.contains(filename) ? URL_PREFIX + variantName(filename, suffix) : imageUrl;
+    }
+
+    private static String variantName(String filename, String suffix) {
+        int dot = filename.lastIndexOf('.');
+        return (dot > 0 ? filename.substring(0, dot) : filename) + suffix;
+    }
+
+    private static boolean isOriginal(String filename) {
+        int slash = filename.lastIndexOf('/');
+        return isOriginalName(slash >= 0 ? filename.substring(slash + 1) : filename);
+    }
+
+    private static boolean isOriginalName(String filename) {
+        return !filename.startsWith(".")
+                && !filename.endsWith(TEMP_SUFFIX)
+                && !filename.endsWith(THUMB_SUFFIX)
+                && !filename.endsWith(MEDIUM_SUFFIX);
+    }
+
+    // ===== 변환 =====
+
+    /**
+     * 시작 시 기존 업로드 이미지 확인 - 변환 이미지가 있으면 사용하고, 없으면 생성 요청
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVariants() {
+        Thread.ofVirtual().name("image-variant-backfill").start(() -> {
+            int existing = 0;
+            int requested = 0;
+            // 이전 방식 파일(업로드 폴더 바로 아래) + 내용 주소 파일(ab/cd/ 아래)
+            try (Stream<Path> files = Files.walk(root, 3)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    String filename = relativeKey(path);
+                    if (!Files.isRegularFile(path) || !isOriginal(filename)) {
+                        continue;
+                    }
+                    if (Files.exists(root.resolve(variantName(filename, THUMB_SUFFIX)))
+                            && Files.exists(root.resolve(variantName(filename, MEDIUM_SUFFIX)))) {
+                        ready.add(filename);
+                        existing++;
+                    } else {
+                        executor.execute(() -> generateVariants(filename));
+                        requested++;
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("업로드 폴더 확인 실패: {}", e.getMessage());
+            }
+            if (existing + requested > 0) {
+                log.info("업로드 이미지 변환 확인: 준비됨 {}개, 생성 요청 {}개", existing, requested);
+            }
+        });
+    }
+
+    void generateVariants(String filename) {
+        Path source = root.resolve(filename);
+        try {
+            BufferedImage image = decode(source);
+            if (image == null) {
+                log.warn("이미지를 읽을 수 없어 변환 생략: {}", filename);
+                return;
+            }
+            writeJpeg(fit(image, mediumSize), root.resolve(variantName(filename, MEDIUM_SUFFIX)));
+            writeJpeg(cropSquare(image, thumbnailSize), root.resolve(variantName(filename, THUMB_SUFFIX)));
+
+            // 변환 중 원본이 삭제됐으면 변환 이미지도 정리
+            if (Files.exists(source)) {
+                ready.add(filename);
+            } else {
+                deleteVariants(filename);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변환 실패: {} - {}", filename, e.getMessage());
+        }
+    }
+
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("해상도가 너무 큽니다 (" + width + "x" + height + ")");
+                }
+                // 큰 원본은 읽을 때부터 건너뛰며 디코딩 (중간 크기/썸네일에 필요한 해상도는 유지)
+                int step = Math.max(1, Math.min(Math.max(width, height) / mediumSize,
+                        Math.min(width, height) / thumbnailSize));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 size x size로 축소 (원본이 더 작으면 확대하지 않음)
+     */
+    private static BufferedImage cropSquare(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        BufferedImage square = image.getSubimage(
+                (image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+        return resize(square, target, target);
+    }
+
+    /**
+     * 긴 변이 maxSize를 넘지 않도록 비율 유지 축소
+     */
+    private static BufferedImage fit(BufferedImage image, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        return resize(image,
+                Math.max(1, (int) Math.round(image.getWidth() * scale)),
+                Math.max(1, (int) Math.round(image.getHeight() * scale)));
+    }
+
+    /**
+     * 한 번에 절반보다 많이 줄이면 화질이 떨어지므로 절반씩 단계적으로 축소
+     * (JPEG로 저장하므로 투명 영역은 흰색으로 채움)
+     */
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = tempFile("variant-");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 변환을 마칠 시간을 잠시 준 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("이미지 변환 작업 {}건을 마치지 못하고 종료", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공유 캐시의 단일 노드용 대체 구현 (개발/테스트용)
+ *
+ * - carrot.item-cache.shared=local 일 때만 등록됨
+ * - 원격 저장소처럼 직렬화된 바이트로 보관하므로 직렬화 문제를 로컬에서도 확인할 수 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "carrot.item-cache.shared", havingValue = "local")
+public class InMemoryItemDetailSharedCache implements ItemDetailSharedCache {
+
+    private static final class Entry {
+        final byte[] value;
+        final long expiresAt;
+
+        Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Entry> store = new ConcurrentHashMap<>();
+
+    @Override
+    public ItemDetailSnapshot get(Long itemId) {
+        Entry entry = store.get(itemId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            store.remove(itemId, entry);
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.value))) {
+            return (ItemDetailSnapshot) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("공유 캐시 역직렬화 실패: itemId={} ({})", itemId, e.getMessage());
+            store.remove(itemId, entry);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(Long itemId, ItemDetailSnapshot snapshot, Duration ttl) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(snapshot);
+        } catch (IOException e) {
+            log.warn("공유 캐시 직렬화 실패: itemId={} ({})", itemId, e.getMessage());
+            return;
+        }
+        store.put(itemId, new Entry(bytes.toByteArray(), System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(Long itemId) {
+        store.remove(itemId);
+    }
+}
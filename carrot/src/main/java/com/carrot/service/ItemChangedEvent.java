@@ -0,0 +1,106 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.entity.Item;
+
+/**
+ * 상품 변경 이벤트
+ * 상품이 등록/수정/상태 변경/관리 처리/삭제되면 발행되고, 커밋 이후 메모리 뷰
+ * (검색 색인, 상세 캐시, 최근 상품 피드, 패싯 색인, 구매희망 매칭, SSE)가 각자 반영
+ * (상품 내용은 발행 시점(트랜잭션 안)에 스냅샷으로 만들어 두므로 커밋 이후 지연 로딩 없음)
+ */
+public class ItemChangedEvent {
+
+    public enum Kind {
+        REGISTERED,      // 새 상품 등록
+        UPDATED,         // 제목/설명/가격/카테고리/지역 수정
+        STATUS_CHANGED,  // 판매 상태 변경 (판매중/예약중/판매완료)
+        MODERATED,       // 관리자/자동 필터링에 의한 숨김, 삭제 처리, 복원
+        DELETED          // DB에서 제거
+    }
+
+    private final Long itemId;
+    private final Kind kind;
+    private final ItemDetailSnapshot item;     // DELETED, 자동 필터링 일괄 블라인드(ID만 앎)는 null
+
+    // UPDATED일 때만 (구매희망 매칭, 가격 변경 알림용)
+    private final Integer previousPrice;
+    private final String previousCategory;
+    private final String previousLocation;
+
+    private ItemChangedEvent(Long itemId, Kind kind, ItemDetailSnapshot item,
+                             Integer previousPrice, String previousCategory, String previousLocation) {
+        this.itemId = itemId;
+        this.kind = kind;
+        this.item = item;
+        this.previousPrice = previousPrice;
+        this.previousCategory = previousCategory;
+        this.previousLocation = previousLocation;
+    }
+
+    public static ItemChangedEvent registered(Item item) {
+        return new ItemChangedEvent(item.getId(), Kind.REGISTERED, new ItemDetailSnapshot(item), null, null, null);
+    }
+
+    public static ItemChangedEvent updated(Item item, int previousPrice, String previousCategory,
+                                           String previousLocation) {
+        return new ItemChangedEvent(item.getId(), Kind.UPDATED, new ItemDetailSnapshot(item),
+                previousPrice, previousCategory, previousLocation);
+    }
+
+    public static ItemChangedEvent statusChanged(Item item) {
+        return new ItemChangedEvent(item.getId(), Kind.STATUS_CHANGED, new ItemDetailSnapshot(item), null, null, null);
+    }
+
+    public static ItemChangedEvent moderated(Item item) {
+        return new ItemChangedEvent(item.getId(), Kind.MODERATED, new ItemDetailSnapshot(item), null, null, null);
+    }
+
+    /**
+     * 상품 내용 없이 ID만 아는 숨김 처리 (자동 필터링 일괄 블라인드)
+     */
+    public static ItemChangedEvent hidden(Long itemId) {
+        return new ItemChangedEvent(itemId, Kind.MODERATED, null, null, null, null);
+    }
+
+    public static ItemChangedEvent deleted(Long itemId) {
+        return new ItemChangedEvent(itemId, Kind.DELETED, null, null, null, null);
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public ItemDetailSnapshot getItem() {
+        return item;
+    }
+
+    /**
+     * 변경 후에도 노출되는 상품인지 (아니면 각 뷰에서 제거)
+     */
+    public boolean isVisible() {
+        return item != null && item.getModerationStatus() == ModerationStatus.VISIBLE;
+    }
+
+    public Integer getPreviousPrice() {
+        return previousPrice;
+    }
+
+    public String getPreviousCategory() {
+        return previousCategory;
+    }
+
+    public String getPreviousLocation() {
+        return previousLocation;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemChangedEvent{" + kind + ", itemId=" + itemId + '}';
+    }
+}
@@ -0,0 +1,270 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 페이지 2단계 캐시
+ *
+ * - 1차: 노드 로컬 캐시 (최대 건수 초과 시 가장 오래 안 쓴 항목부터 제거 + 저장 후 TTL 경과 시 만료)
+ * - 2차: 노드 간 공유 캐시 (ItemDetailSharedCache 빈이 있을 때만 사용)
+ * - 둘 다 없으면 DB에서 상품 + 판매자를 한 번에 읽어 스냅샷으로 저장
+ * - 상품이 바뀌면(ItemChangedEvent, 찜/조회수 반영) invalidate()로 즉시 + 커밋 직후 두 번 제거
+ *   (커밋 전에 다른 요청이 옛 값을 다시 올려두는 경우 대비)
+ * - 제거 시점마다 ID별 세대 번호를 올려서, 제거 전에 DB를 읽기 시작한 요청은 결과를 캐시에 넣지 않음
+ */
+@Slf4j
+@Component
+public class ItemDetailCache {
+
+    // ID별 세대 번호 (ID를 해시해서 나눠 쓰므로 메모리 고정, 충돌 시 캐시에 안 넣을 뿐 결과는 정확)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static final class Entry {
+        final ItemDetailSnapshot snapshot;
+        final long expiresAt;
+
+        Entry(ItemDetailSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Autowired(required = false)
+    private ItemDetailSharedCache sharedCache;
+
+    @Value("${carrot.item-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${carrot.item-cache.local-ttl-ms:30000}")
+    private long localTtlMs;
+
+    @Value("${carrot.item-cache.shared-ttl-ms:300000}")
+    private long sharedTtlMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> local = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ItemDetailCache() {
+    }
+
+    ItemDetailCache(int maxSize, long localTtlMs, long sharedTtlMs, ItemDetailSharedCache sharedCache) {
+        this.maxSize = maxSize;
+        this.localTtlMs = localTtlMs;
+        this.sharedTtlMs = sharedTtlMs;
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * 캐시에서 스냅샷 조회, 없으면 loader로 읽어서 저장
+     *
+     * @param loader DB 조회 (상품이 없으면 null 반환, null은 캐시하지 않음)
+     */
+    public ItemDetailSnapshot get(Long itemId, Function<Long, ItemDetailSnapshot> loader) {
+        ItemDetailSnapshot snapshot = getLocal(itemId);
+        if (snapshot != null) {
+            localHits.increment();
+            RequestPerf.cacheHit();
+            return snapshot;
+        }
+
+        long generation = generations.get(stripe(itemId));
+
+        snapshot = getShared(itemId);
+        if (snapshot != null) {
+            sharedHits.increment();
+            RequestPerf.cacheHit();
+            putLocal(itemId, snapshot, generation);
+            return snapshot;
+        }
+
+        misses.increment();
+        snapshot = loader.apply(itemId);
+        if (snapshot != null && putLocal(itemId, snapshot, generation) && sharedCache != null) {
+            putShared(itemId, snapshot, generation);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 상품이 바뀌었을 때 호출 (즉시 제거 + 트랜잭션 안이면 커밋 직후 한 번 더 제거)
+     */
+    public void invalidate(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        evict(itemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(itemId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 반영
+     * 다른 뷰와 달리 커밋 이후가 아니라 발행 시점에 받아서 invalidate() (즉시 + 커밋 직후 두 번 제거)
+     */
+    @EventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        invalidate(event.getItemId());
+    }
+
+    public void invalidateAll(Collection<Long> itemIds) {
+        for (Long itemId : itemIds) {
+            invalidate(itemId);
+        }
+    }
+
+    /**
+     * 적중률 등 캐시 지표 (관리자 API용)
+     */
+    public Map<String, Object> getStats() {
+        long local = localHits.sum();
+        long shared = sharedHits.sum();
+        long miss = misses.sum();
+        long total = local + shared + miss;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localHits", local);
+        stats.put("sharedHits", shared);
+        stats.put("misses", miss);
+        stats.put("hitRate", total > 0 ? (double) (local + shared) / total : 0.0);
+        stats.put("localSize", size());
+        stats.put("maxSize", maxSize);
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("sharedTierEnabled", sharedCache != null);
+        return stats;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return local.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ItemDetailSnapshot getLocal(Long itemId) {
+        lock.lock();
+        try {
+            Entry entry = local.get(itemId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                local.remove(itemId);
+                expirations.increment();
+                return null;
+            }
+            return entry.snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ItemDetailSnapshot getShared(Long itemId) {
+        if (sharedCache == null) {
+            return null;
+        }
+        try {
+            return sharedCache.get(itemId);
+        } catch (Exception e) {
+            log.warn("공유 캐시 조회 실패: itemId={} ({})", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 공유 캐시 저장
+     * - 저장 직전에 세대를 다시 확인하고, 저장과 겹쳐 제거 요청이 들어왔으면 (제거가 먼저 끝났을 수 있으므로) 직접 다시 제거
+     */
+    private void putShared(Long itemId, ItemDetailSnapshot snapshot, long generation) {
+        try {
+            if (generations.get(stripe(itemId)) != generation) {
+                return;
+            }
+            sharedCache.put(itemId, snapshot, Duration.ofMillis(sharedTtlMs));
+            if (generations.get(stripe(itemId)) != generation) {
+                sharedCache.evict(itemId);
+            }
+        } catch (Exception e) {
+            log.warn("공유 캐시 저장 실패: itemId={} ({})", itemId, e.getMessage());
+        }
+    }
+
+    // 조회를 시작한 뒤 제거 요청이 있었으면 저장하지 않음
+    private boolean putLocal(Long itemId, ItemDetailSnapshot snapshot, long generation) {
+        lock.lock();
+        try {
+            if (generations.get(stripe(itemId)) != generation) {
+                return false;
+            }
+            local.put(itemId, new Entry(snapshot, System.currentTimeMillis() + localTtlMs));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(Long itemId) {
+        lock.lock();
+        try {
+            generations.incrementAndGet(stripe(itemId));
+            local.remove(itemId);
+        } finally {
+            lock.unlock();
+        }
+        invalidations.increment();
+
+        if (sharedCache != null) {
+            try {
+                sharedCache.evict(itemId);
+            } catch (Exception e) {
+                log.warn("공유 캐시 제거 실패: itemId={} ({})", itemId, e.getMessage());
+            }
+        }
+    }
+
+    private static int stripe(Long itemId) {
+        return (Long.hashCode(itemId) & 0x7fffffff) % GENERATION_STRIPES;
+    }
+}
@@ -0,0 +1,24 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+
+import java.time.Duration;
+
+/**
+ * 상품 상세 캐시의 2차(공유) 저장소
+ *
+ * - 여러 애플리케이션 노드가 같은 저장소를 보도록 구현 (예: Redis, Memcached)
+ * - 구현체가 빈으로 등록되어 있지 않으면 ItemDetailCache는 로컬 캐시만 사용
+ * - 저장소 장애가 상세 페이지 장애로 이어지지 않도록 구현체는 예외 대신 null/무시로 처리하는 것을 권장
+ */
+public interface ItemDetailSharedCache {
+
+    /**
+     * 저장된 스냅샷 (없거나 만료되었으면 null)
+     */
+    ItemDetailSnapshot get(Long itemId);
+
+    void put(Long itemId, ItemDetailSnapshot snapshot, Duration ttl);
+
+    void evict(Long itemId);
+}
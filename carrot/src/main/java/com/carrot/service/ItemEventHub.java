@@ -0,0 +1,295 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.dto.ItemUpdateEvent;
+import com.carrot.repository.WishlistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 변경(판매 상태, 가격, 숨김/복원) 실시간 전송 허브 (Server-Sent Events)
+ *
+ * - 구독은 사용자 ID별로 관리, 상품 상세 화면은 보고 있는 상품 ID도 함께 구독
+ * - 변경이 커밋되면 가상 스레드에서 받을 구독자(그 상품을 찜한 접속 사용자 + 상세 화면을 보는 사용자)를 찾아 전달
+ * - 구독자마다 크기 제한 큐 + 전송 전용 가상 스레드 하나
+ *   느린 클라이언트 때문에 다른 구독자나 요청 스레드가 막히지 않고, 큐가 차면 가장 오래된 변경분부터 버림
+ * - 연결 유지를 위해 heartbeat-ms마다 주석(ping)을 보내고, 전송에 실패한 구독은 정리
+ */
+@Slf4j
+@Component
+public class ItemEventHub {
+
+    private static final String EVENT_NAME = "item";
+
+    /**
+     * 구독자 큐에 넣는 전송 단위 (name이 null이면 heartbeat 주석)
+     */
+    record Message(long id, String name, Object data) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final Message HEARTBEAT = new Message(0, null, null);
+
+    /**
+     * SSE 연결 하나
+     */
+    static final class Subscriber {
+        final Long userId;
+        final Long watchedItemId;
+        final SseEmitter emitter;
+        private final LinkedBlockingDeque<Message> queue;
+        private final LongAdder dropped;
+        private volatile Thread sender;
+        private volatile boolean closed;
+
+        Subscriber(Long userId, Long watchedItemId, SseEmitter emitter, int capacity, LongAdder dropped) {
+            this.userId = userId;
+            this.watchedItemId = watchedItemId;
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingDeque<>(capacity);
+            this.dropped = dropped;
+        }
+
+        /**
+         * 큐에 추가, 가득 차 있으면 가장 오래된 것을 버리고 추가 (전송 스레드를 기다리지 않음)
+         */
+        void offer(Message message) {
+            while (!queue.offerLast(message)) {
+                if (queue.pollFirst() != null) {
+                    dropped.increment();
+                }
+            }
+        }
+
+        int pending() {
+            return queue.size();
+        }
+    }
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    // 구독자별 전송 대기 큐 크기 (넘치면 오래된 변경분부터 버림)
+    @Value("${carrot.sse.queue-capacity:32}")
+    private int queueCapacity;
+
+    // 연결 최대 유지 시간 (끊기면 브라우저 EventSource가 자동으로 다시 연결)
+    @Value("${carrot.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 사용자당 동시 연결 수 (넘으면 가장 오래된 연결을 닫음)
+    @Value("${carrot.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    private final ConcurrentHashMap<Long, List<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Subscriber>> byWatchedItem = new ConcurrentHashMap<>();
+
+    // 구독자 찾기(DB 조회 포함)와 전송은 모두 가상 스레드에서
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // ===== 구독 =====
+
+    /**
+     * 사용자의 SSE 연결 등록
+     *
+     * @param watchedItemId 상품 상세 화면에서 보고 있는 상품 (찜하지 않았어도 변경을 받음, 없으면 null)
+     */
+    public SseEmitter subscribe(Long userId, Long watchedItemId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, watchedItemId, emitter, queueCapacity, dropped);
+
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        Subscriber[] evicted = new Subscriber[1];
+        byUser.compute(userId, (id, subscribers) -> {
+            List<Subscriber> list = subscribers != null ? subscribers : new CopyOnWriteArrayList<>();
+            if (list.size() >= maxConnectionsPerUser) {
+                evicted[0] = list.remove(0);
+            }
+            list.add(subscriber);
+            return list;
+        });
+        if (evicted[0] != null) {
+            evicted[0].emitter.complete();
+            close(evicted[0]);
+        }
+        if (watchedItemId != null) {
+            byWatchedItem.computeIfAbsent(watchedItemId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+
+        subscriber.sender = Thread.ofVirtual().name("sse-" + userId).start(() -> drain(subscriber));
+        // 연결 직후 바로 응답 헤더가 나가도록 첫 주석 전송
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                Message message = subscriber.queue.take();
+                subscriber.emitter.send(message.toEvent());
+                if (message.name() != null) {
+                    delivered.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 클라이언트가 연결을 끊음
+            log.debug("SSE 전송 실패 (userId={}): {}", subscriber.userId, e.getMessage());
+        } finally {
+            close(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        byUser.computeIfPresent(subscriber.userId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (subscriber.watchedItemId != null) {
+            byWatchedItem.computeIfPresent(subscriber.watchedItemId, (id, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+        Thread sender = subscriber.sender;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+    }
+
+    // ===== 발행 =====
+
+    /**
+     * 커밋 이후 상품 변경 전달 (트랜잭션 밖이면 바로 전달)
+     * 등록이나 가격이 그대로인 수정은 화면에 바뀔 값이 없으므로 보내지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemDetailSnapshot item = event.getItem();
+        ItemUpdateEvent update = switch (event.getKind()) {
+            case REGISTERED -> null;
+            case UPDATED -> item.getPrice().equals(event.getPreviousPrice())
+                    ? null : ItemUpdateEvent.price(item, event.getPreviousPrice());
+            case STATUS_CHANGED -> ItemUpdateEvent.status(item);
+            case MODERATED -> item != null
+                    ? ItemUpdateEvent.moderation(item) : ItemUpdateEvent.hidden(event.getItemId());
+            case DELETED -> ItemUpdateEvent.hidden(event.getItemId());
+        };
+        if (update != null) {
+            publish(update);
+        }
+    }
+
+    void publish(ItemUpdateEvent event) {
+        // 접속자가 없으면 찜한 사용자 조회도 하지 않음
+        if (byUser.isEmpty()) {
+            return;
+        }
+        published.increment();
+        fanOutExecutor.execute(() -> fanOut(event));
+    }
+
+    void fanOut(ItemUpdateEvent event) {
+        Set<Subscriber> targets = new HashSet<>();
+        Set<Subscriber> watchers = byWatchedItem.get(event.getItemId());
+        if (watchers != null) {
+            targets.addAll(watchers);
+        }
+        try {
+            for (Long userId : wishlistRepository.findUserIdsByItemId(event.getItemId())) {
+                List<Subscriber> subscribers = byUser.get(userId);
+                if (subscribers != null) {
+                    targets.addAll(subscribers);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("상품 변경 전달 대상 조회 실패 (itemId={}): {}", event.getItemId(), e.getMessage());
+        }
+
+        Message message = new Message(sequence.incrementAndGet(), EVENT_NAME, event);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (끊긴 연결은 전송 실패로 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${carrot.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (List<Subscriber> subscribers : byUser.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    // ===== 통계 =====
+
+    public Map<String, Object> getStats() {
+        int connections = 0;
+        int pending = 0;
+        for (List<Subscriber> subscribers : byUser.values()) {
+            for (Subscriber subscriber : subscribers) {
+                connections++;
+                pending += subscriber.pending();
+            }
+        }
+        return Map.of("users", byUser.size(), "connections", connections, "pending", pending,
+                "published", published.sum(), "delivered", delivered.sum(), "dropped", dropped.sum());
+    }
+
+    /**
+     * 종료 시작 시 모든 연결을 닫음
+     * (열린 SSE 요청이 graceful shutdown을 끝까지 붙잡지 않도록 웹 서버 종료보다 먼저 실행)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        for (List<Subscriber> subscribers : byUser.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.emitter.complete();
+                close(subscriber);
+            }
+        }
+        fanOutExecutor.shutdownNow();
+    }
+}
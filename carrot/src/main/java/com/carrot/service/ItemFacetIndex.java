@@ -0,0 +1,247 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리/지역별 상품 목록용 패싯 색인
+ *
+ * - 카테고리별, 지역별 상품 ID 목록과 VISIBLE 상품 ID 목록을 압축 비트맵(IdBitmap)으로 보관
+ * - 목록 = 카테고리 ∩ (지역) ∩ VISIBLE 교집합, 개수는 교집합 원소 수로 바로 계산 (COUNT 쿼리 없음)
+ * - 상품 ID는 등록 순서대로 증가하므로 큰 ID부터 잘라서 최신순 페이지를 만듦
+ * - 등록/수정/관리상태 변경/삭제 시 커밋 이후 반영, 시작 시 DB에서 구성
+ */
+@Slf4j
+@Component
+public class ItemFacetIndex {
+
+    // 시작 시 색인을 만들 때 한 번에 읽어오는 상품 수
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    /**
+     * 상품별 색인된 값 (수정 시 이전 카테고리/지역에서 빼기 위해 보관)
+     */
+    private record Facets(String category, String location, boolean visible) {
+    }
+
+    private final Map<Long, Facets> facetsById = new HashMap<>();
+    private final Map<String, IdBitmap> byCategory = new HashMap<>();
+    private final Map<String, IdBitmap> byLocation = new HashMap<>();
+    private final IdBitmap visible = new IdBitmap();
+
+    // 쓰기는 드물고 읽기(목록/개수)는 잦으므로 읽기/쓰기 잠금 분리
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 목록 페이지 결과 (최신순 상품 ID + 전체 개수)
+     */
+    public record Slice(List<Long> ids, long total) {
+    }
+
+    // ===== 색인 구성 =====
+
+    /**
+     * 애플리케이션 시작 완료 후 DB의 모든 상품으로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = itemRepository.findFacetRowsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    put((Long) row[0], new Facets((String) row[1], (String) row[2], row[3] == ModerationStatus.VISIBLE));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            count += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        ready = true;
+        log.info("상품 패싯 색인 생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 색인이 준비되었는지 여부 (준비 전에는 DB 조회 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===== 변경 반영 =====
+
+    /**
+     * 상품 변경을 트랜잭션 커밋 이후에 반영 (상품 내용을 모르는 숨김/삭제는 색인에서 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemDetailSnapshot item = event.getItem();
+        if (item == null) {
+            remove(event.getItemId());
+            return;
+        }
+        update(event.getItemId(), new Facets(item.getCategory(), item.getLocation(), event.isVisible()));
+    }
+
+    private void update(Long itemId, Facets facets) {
+        lock.writeLock().lock();
+        try {
+            put(itemId, facets);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            Facets previous = facetsById.remove(itemId);
+            if (previous != null) {
+                unindex(itemId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void put(Long itemId, Facets facets) {
+        Facets previous = facetsById.put(itemId, facets);
+        if (previous != null) {
+            unindex(itemId, previous);
+        }
+        if (facets.category() != null) {
+            byCategory.computeIfAbsent(facets.category(), k -> new IdBitmap()).add(itemId);
+        }
+        if (facets.location() != null) {
+            byLocation.computeIfAbsent(facets.location(), k -> new IdBitmap()).add(itemId);
+        }
+        if (facets.visible()) {
+            visible.add(itemId);
+        }
+    }
+
+    private void unindex(Long itemId, Facets facets) {
+        removeFrom(byCategory, facets.category(), itemId);
+        removeFrom(byLocation, facets.location(), itemId);
+        visible.remove(itemId);
+    }
+
+    private void removeFrom(Map<String, IdBitmap> postings, String key, Long itemId) {
+        if (key == null) {
+            return;
+        }
+        IdBitmap ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 카테고리(필수) + 지역(선택)의 VISIBLE 상품을 최신순으로 page번째 size개
+     */
+    public Slice page(String category, String location, int page, int size) {
+        lock.readLock().lock();
+        try {
+            IdBitmap matches = visibleIn(category, location);
+            return new Slice(matches.descending((long) page * size, size), matches.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리별 VISIBLE 상품 수
+     */
+    public long countByCategory(String category) {
+        lock.readLock().lock();
+        try {
+            IdBitmap ids = byCategory.get(category);
+            return ids != null ? ids.andCardinality(visible) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 카테고리별 VISIBLE 상품 수 (카테고리명 순)
+     */
+    public Map<String, Long> categoryCounts() {
+        lock.readLock().lock();
+        try {
+            return counts(byCategory, visible);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리 안의 지역별 VISIBLE 상품 수 (지역명 순, 0개인 지역 제외)
+     */
+    public Map<String, Long> locationCounts(String category) {
+        lock.readLock().lock();
+        try {
+            return counts(byLocation, visibleIn(category, null));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 잠금 안에서 호출
+    private IdBitmap visibleIn(String category, String location) {
+        IdBitmap categoryIds = byCategory.get(category);
+        if (categoryIds == null) {
+            return new IdBitmap();
+        }
+        IdBitmap matches = categoryIds.and(visible);
+        if (location != null) {
+            IdBitmap locationIds = byLocation.get(location);
+            matches = locationIds != null ? matches.and(locationIds) : new IdBitmap();
+        }
+        return matches;
+    }
+
+    private Map<String, Long> counts(Map<String, IdBitmap> postings, IdBitmap filter) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, IdBitmap> entry : postings.entrySet()) {
+            long count = entry.getValue().andCardinality(filter);
+            if (count > 0) {
+                counts.put(entry.getKey(), count);
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,415 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.entity.Item;
+import com.carrot.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 키워드 검색용 메모리 역색인
+ *
+ * - 제목/설명을 소문자로 정규화한 뒤 1-gram, 2-gram 단위로 색인
+ * - 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 형태소 분석 대신 음절 n-gram 사용
+ *   (예: "아이폰13프로" 에서 "폰13" 같은 부분 검색도 가능)
+ * - n-gram 교집합으로 후보를 좁힌 뒤 원문 포함 여부로 한번 더 확인하므로
+ *   기존 LIKE '%keyword%' 검색과 결과가 동일함
+ * - VISIBLE 상태의 상품만 색인하며, 등록/수정/삭제/관리상태 변경 시 증분 반영
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    // 시작 시 색인을 만들 때 한 번에 읽어오는 상품 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    // 상품 ID -> 색인된 상품 정보
+    private final Map<Long, IndexedItem> documents = new ConcurrentHashMap<>();
+
+    // n-gram -> 해당 n-gram을 포함하는 상품 ID 목록
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 쓰기 작업은 드물기 때문에 하나의 락으로 직렬화 (읽기는 락 없이 동작)
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 색인된 상품 정보 (검색/정렬에 필요한 값만 보관하는 불변 객체)
+     */
+    public record IndexedItem(Long id,
+                              String category,
+                              int price,
+                              int viewCount,
+                              int wishCount,
+                              LocalDateTime createdAt,
+                              String searchText) {
+    }
+
+    // ===== 색인 구성 =====
+
+    /**
+     * 애플리케이션 시작 완료 후 DB의 VISIBLE 상품으로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Item> batch = itemRepository.findByModerationStatusAndIdGreaterThanOrderByIdAsc(
+                    ModerationStatus.VISIBLE, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Item item : batch) {
+                index(item);
+            }
+            count += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        ready = true;
+        log.info("상품 검색 색인 생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 색인이 준비되었는지 여부 (준비 전에는 DB 검색 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품을 색인에 추가하거나 갱신
+     * - VISIBLE이 아닌 상품은 색인에서 제거
+     */
+    public void index(Item item) {
+        if (item == null || item.getId() == null) {
+            return;
+        }
+        if (item.getModerationStatus() != ModerationStatus.VISIBLE) {
+            remove(item.getId());
+            return;
+        }
+
+        String searchText = normalize(item.getTitle()) + "\n" + normalize(item.getDescription());
+        IndexedItem indexed = new IndexedItem(
+                item.getId(),
+                item.getCategory(),
+                item.getPrice() != null ? item.getPrice() : 0,
+                item.getViewCount() != null ? item.getViewCount() : 0,
+                item.getWishCount() != null ? item.getWishCount() : 0,
+                item.getCreatedAt() != null ? item.getCreatedAt() : LocalDateTime.now(),
+                searchText);
+        Set<String> newGrams = grams(searchText);
+
+        synchronized (writeLock) {
+            IndexedItem previous = documents.put(indexed.id(), indexed);
+            if (previous != null) {
+                // n-gram 목록은 메모리 절약을 위해 보관하지 않고 원문에서 다시 계산
+                for (String gram : grams(previous.searchText())) {
+                    if (!newGrams.contains(gram)) {
+                        removePosting(gram, previous.id());
+                    }
+                }
+            }
+            for (String gram : newGrams) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(indexed.id());
+            }
+        }
+    }
+
+    /**
+     * 색인에서 상품 제거
+     */
+    public void remove(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            IndexedItem previous = documents.remove(itemId);
+            if (previous != null) {
+                for (String gram : grams(previous.searchText())) {
+                    removePosting(gram, itemId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 상품 변경을 트랜잭션 커밋 이후에 색인에 반영 (롤백된 변경이 색인에 남지 않도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isVisible()) {
+            index(event.getItem().toItem());
+        } else {
+            remove(event.getItemId());
+        }
+    }
+
+    /**
+     * 조회수만 바뀐 경우 n-gram 재계산 없이 정렬용 값만 갱신
+     * - 캐시된 스냅샷 기준 값이 늦게 도착해도 줄어들지 않도록 더 큰 값만 반영 (찜 개수는 건드리지 않음)
+     */
+    public void updateViewCount(Long itemId, int viewCount) {
+        documents.computeIfPresent(itemId, (id, doc) -> doc.viewCount() >= viewCount ? doc : new IndexedItem(
+                doc.id(), doc.category(), doc.price(), viewCount, doc.wishCount(),
+                doc.createdAt(), doc.searchText()));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후에 찜 개수만 갱신
+     */
+    public void updateWishCountAfterCommit(Long itemId, int wishCount) {
+        TransactionCallbacks.afterCommit(() -> documents.computeIfPresent(itemId, (id, doc) -> new IndexedItem(
+                doc.id(), doc.category(), doc.price(), doc.viewCount(), wishCount,
+                doc.createdAt(), doc.searchText())));
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 키워드 + 카테고리 + 정렬 조건으로 상품 ID 목록 검색
+     *
+     * @param keyword  검색어 (비어 있으면 카테고리 전체)
+     * @param category 카테고리 ("all" 또는 null이면 전체)
+     * @param sort     latest, price_low, price_high, view_count, wish_count
+     * @return 정렬된 상품 ID 목록
+     */
+    public List<Long> search(String keyword, String category, String sort) {
+        List<IndexedItem> matches = new ArrayList<>();
+        String normalizedKeyword = normalize(keyword);
+
+        for (IndexedItem doc : candidates(normalizedKeyword)) {
+            if (matches(doc, normalizedKeyword, category)) {
+                matches.add(doc);
+            }
+        }
+
+        matches.sort(comparator(sort));
+
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (IndexedItem doc : matches) {
+            ids.add(doc.id());
+        }
+        return ids;
+    }
+
+    /**
+     * 검색 결과 중 한 페이지
+     *
+     * @param ids   현재 페이지의 상품 ID (정렬 순서)
+     * @param total 조건에 맞는 전체 상품 수
+     */
+    public record SearchPage(List<Long> ids, int total) {
+    }
+
+    /**
+     * 키워드 + 카테고리 + 정렬 조건으로 offset부터 limit개의 상품 ID 검색 (OFFSET 페이징용)
+     * - 전체를 정렬하지 않고 앞쪽 offset + limit개만 힙으로 유지 (빈 검색어로 전체 목록을 볼 때도 동일)
+     */
+    public SearchPage search(String keyword, String category, String sort, int offset, int limit) {
+        String normalizedKeyword = normalize(keyword);
+        Comparator<IndexedItem> order = comparator(sort);
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<IndexedItem> top = new PriorityQueue<>(order.reversed());
+        int total = 0;
+
+        for (IndexedItem doc : candidates(normalizedKeyword)) {
+            if (!matches(doc, normalizedKeyword, category)) {
+                continue;
+            }
+            total++;
+            if (top.size() < keep) {
+                top.offer(doc);
+            } else if (keep > 0 && order.compare(doc, top.peek()) < 0) {
+                top.poll();
+                top.offer(doc);
+            }
+        }
+
+        List<IndexedItem> kept = new ArrayList<>(top);
+        kept.sort(order);
+
+        List<Long> ids = new ArrayList<>(Math.max(kept.size() - offset, 0));
+        for (int i = offset; i < kept.size(); i++) {
+            ids.add(kept.get(i).id());
+        }
+        return new SearchPage(ids, total);
+    }
+
+    /**
+     * 커서 이후의 상품 ID 목록 검색 (최신순 커서 기반 페이징)
+     *
+     * @param cursorCreatedAt 이전 페이지 마지막 상품의 등록일 (첫 페이지는 null)
+     * @param cursorId        이전 페이지 마지막 상품의 ID (첫 페이지는 null)
+     * @param limit           최대 개수
+     */
+    public List<Long> searchAfter(String keyword, String category,
+                                  LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        String normalizedKeyword = normalize(keyword);
+        Comparator<IndexedItem> latest = comparator("latest");
+        PriorityQueue<IndexedItem> top = new PriorityQueue<>(latest.reversed());
+
+        for (IndexedItem doc : candidates(normalizedKeyword)) {
+            if (!matches(doc, normalizedKeyword, category)) {
+                continue;
+            }
+            if (cursorCreatedAt != null && !isBefore(doc, cursorCreatedAt, cursorId)) {
+                continue;
+            }
+            // 전체 정렬 대신 상위 limit개만 유지
+            top.offer(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<IndexedItem> page = new ArrayList<>(top);
+        page.sort(latest);
+
+        List<Long> ids = new ArrayList<>(page.size());
+        for (IndexedItem doc : page) {
+            ids.add(doc.id());
+        }
+        return ids;
+    }
+
+    /**
+     * 색인된 상품 수
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 검색어의 n-gram 교집합으로 후보 상품 추출
+     */
+    private Collection<IndexedItem> candidates(String normalizedKeyword) {
+        if (normalizedKeyword.isEmpty()) {
+            return documents.values();
+        }
+
+        Set<String> queryGrams = normalizedKeyword.length() == 1
+                ? Set.of(normalizedKeyword)
+                : bigrams(normalizedKeyword);
+
+        // 가장 짧은 posting부터 교집합을 구해야 비교 횟수가 적음
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<IndexedItem> result = new ArrayList<>();
+        outer:
+        for (Long id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            IndexedItem doc = documents.get(id);
+            if (doc != null) {
+                result.add(doc);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리 조건과 원문 포함 여부 확인 (n-gram 후보는 실제로 이어져 있지 않을 수 있음)
+     */
+    private boolean matches(IndexedItem doc, String normalizedKeyword, String category) {
+        if (category != null && !"all".equals(category) && !category.equals(doc.category())) {
+            return false;
+        }
+        return normalizedKeyword.isEmpty() || doc.searchText().contains(normalizedKeyword);
+    }
+
+    private Comparator<IndexedItem> comparator(String sort) {
+        Comparator<IndexedItem> latest = Comparator.comparing(IndexedItem::createdAt)
+                .thenComparing(IndexedItem::id)
+                .reversed();
+
+        if ("price_low".equals(sort)) {
+            return Comparator.comparingInt(IndexedItem::price).thenComparing(latest);
+        } else if ("price_high".equals(sort)) {
+            return Comparator.comparingInt(IndexedItem::price).reversed().thenComparing(latest);
+        } else if ("view_count".equals(sort)) {
+            return Comparator.comparingInt(IndexedItem::viewCount).reversed().thenComparing(latest);
+        } else if ("wish_count".equals(sort)) {
+            return Comparator.comparingInt(IndexedItem::wishCount).reversed().thenComparing(latest);
+        }
+        return latest;
+    }
+
+    private boolean isBefore(IndexedItem doc, LocalDateTime cursorCreatedAt, Long cursorId) {
+        int cmp = doc.createdAt().compareTo(cursorCreatedAt);
+        return cmp < 0 || (cmp == 0 && cursorId != null && doc.id() < cursorId);
+    }
+
+    private void removePosting(String gram, Long itemId) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null) {
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                postings.remove(gram, ids);
+            }
+        }
+    }
+
+    /**
+     * 검색용 정규화 (소문자 변환, 연속 공백 하나로 축소)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 색인용 n-gram 생성 (1-gram + 2-gram)
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                grams.add(String.valueOf(c));
+            }
+        }
+        grams.addAll(bigrams(text));
+        return grams;
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -1,5 +1,7 @@
 package com.carrot.service;
 
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.dto.SearchCursor;
 import com.carrot.entity.AdminLog;
 import com.carrot.entity.Item;
 import com.carrot.entity.User;
@@ -7,10 +9,16 @@ import com.carrot.repository.ItemRepository;
 import com.carrot.constant.ItemSellStatus;
 import com.carrot.constant.ModerationStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -27,7 +35,22 @@ public class ItemService {
     private ItemRepository itemRepository;
 
     @Autowired
-    private AdminService adminService;
+    private ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private ItemDetailCache itemDetailCache;
+
+    @Autowired
+    private RecentItemsFeed recentItemsFeed;
+
+    @Autowired
+    private ItemFacetIndex itemFacetIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // ===== 상품 등록/수정/삭제 =====
 
@@ -41,14 +64,10 @@ public class ItemService {
 
             // 일단 저장
             Item savedItem = itemRepository.save(item);
+            eventPublisher.publishEvent(ItemChangedEvent.registered(savedItem));
 
-            // 자동 필터링 검사 (부적절한 단어 체크)
-            adminService.autoModerateContent(
-                    savedItem.getId(),
-                    savedItem.getTitle(),
-                    savedItem.getDescription(),
-                    "system@carrot.com"
-            );
+            // 자동 필터링 검사는 커밋 이후 ModerationPipeline에서 비동기로 처리
+            eventPublisher.publishEvent(ContentModerationEvent.item(savedItem.getId()));
 
             return savedItem;
 
@@ -70,6 +89,11 @@ public class ItemService {
             throw new Exception("상품을 수정할 권한이 없습니다.");
         }
 
+        // 구매희망 매칭용 (가격 인하, 카테고리/지역 변경 확인)
+        int previousPrice = existingItem.getPrice();
+        String previousCategory = existingItem.getCategory();
+        String previousLocation = existingItem.getLocation();
+
         // 수정 가능한 필드만 업데이트
         existingItem.setTitle(updatedItem.getTitle());
         existingItem.setDescription(updatedItem.getDescription());
@@ -84,15 +108,12 @@ public class ItemService {
         // 입력 검증
         validateItem(existingItem);
 
-        // 자동 필터링 재검사
-        adminService.autoModerateContent(
-                existingItem.getId(),
-                existingItem.getTitle(),
-                existingItem.getDescription(),
-                "system@carrot.com"
-        );
+        Item savedItem = itemRepository.save(existingItem);
+        eventPublisher.publishEvent(ItemChangedEvent.updated(savedItem, previousPrice, previousCategory, previousLocation));
 
-        return itemRepository.save(existingItem);
+        // 자동 필터링 재검사 (커밋 이후 비동기)
+        eventPublisher.publishEvent(ContentModerationEvent.item(savedItem.getId()));
+        return savedItem;
     }
 
     /**
@@ -109,25 +130,36 @@ public class ItemService {
         }
 
         itemRepository.delete(item);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId));
     }
 
     // ===== 상품 조회 =====
 
     /**
      * 상품 상세 조회 (조회수 증가)
+     * - 상품 + 판매자 스냅샷은 ItemDetailCache에서 조회 (캐시 적중 시 DB 접근 없음)
+     * - 조회수는 ViewCountAggregator에 모아두었다가 주기적으로 DB에 반영 (행 잠금 없음)
+     * - 반환되는 상품은 영속 상태가 아닌 새 객체이며, 조회수는 아직 반영되지 않은 증가분까지 포함
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Item getItemDetail(Long itemId) throws Exception {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new Exception("상품을 찾을 수 없습니다."));
+        ItemDetailSnapshot snapshot = itemDetailCache.get(itemId,
+                id -> itemRepository.findWithSellerById(id).map(ItemDetailSnapshot::new).orElse(null));
+        if (snapshot == null) {
+            throw new Exception("상품을 찾을 수 없습니다.");
+        }
 
         // 숨겨진 상품은 관리자만 볼 수 있음
-        if (item.isBlocked()) {
+        if (snapshot.isBlocked()) {
             throw new Exception("조회할 수 없는 상품입니다.");
         }
 
-        // 조회수 증가
-        item.incrementViewCount();
-        itemRepository.save(item);
+        // 조회수 증가 (화면 표시용 값만 바뀌고 UPDATE는 발생하지 않음)
+        Item item = snapshot.toItem();
+        viewCountAggregator.increment(ViewCountAggregator.Target.ITEM, itemId);
+        item.setViewCount(viewCountAggregator.currentViewCount(
+                ViewCountAggregator.Target.ITEM, itemId, item.getViewCount()));
+        itemSearchIndex.updateViewCount(item.getId(), item.getViewCount());
 
         return item;
     }
@@ -159,6 +191,40 @@ public class ItemService {
                 category, ModerationStatus.VISIBLE);
     }
 
+    /**
+     * 카테고리별 상품 목록 (페이징, 최신순, 지역 필터 선택)
+     * - 패싯 색인에서 현재 페이지의 ID와 전체 개수를 구한 뒤 IN 쿼리 한 번으로 조회
+     * - 색인 생성 전에는 DB 조회
+     *
+     * @param location 거래 지역 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public Page<Item> getItemsByCategoryPage(String category, String location, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        if (itemFacetIndex.isReady()) {
+            ItemFacetIndex.Slice slice = itemFacetIndex.page(category, location, page, size);
+            return new PageImpl<>(findAllByIdInOrder(slice.ids()), pageable, slice.total());
+        }
+
+        List<Item> items = itemRepository.findByCategoryAndModerationStatusOrderByCreatedAtDesc(
+                category, ModerationStatus.VISIBLE);
+        if (location != null) {
+            items = items.stream().filter(item -> location.equals(item.getLocation())).toList();
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + size, items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
+
+    /**
+     * 카테고리 안의 지역별 상품 수 (색인 생성 전에는 빈 목록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Long> getLocationCountsByCategory(String category) {
+        return itemFacetIndex.isReady() ? itemFacetIndex.locationCounts(category) : Map.of();
+    }
+
     /**
      * 특정 사용자의 등록 상품 조회
      */
@@ -169,9 +235,13 @@ public class ItemService {
 
     /**
      * 최근 등록된 상품들 조회 (메인 페이지용)
+     * - 피드 크기 이내는 RecentItemsFeed에서 반환 (DB 접근 없음)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Item> getRecentItems(int limit) {
+        if (recentItemsFeed.canServe(limit)) {
+            return recentItemsFeed.getRecentItems(limit);
+        }
         Pageable pageable = PageRequest.of(0, limit);
         return itemRepository.findRecentItems(ModerationStatus.VISIBLE, pageable);
     }
@@ -204,20 +274,60 @@ public class ItemService {
 
     /**
      * 복합 검색 (키워드, 카테고리, 정렬)
+     * - 검색 색인이 준비되어 있으면 색인에서 검색 후 ID로 일괄 조회
+     * - 색인 생성 전(애플리케이션 시작 직후)에는 DB 검색 사용 (정렬은 ORDER BY로 처리)
      */
     @Transactional(readOnly = true)
     public List<Item> searchItemsWithFilters(String keyword, String category, String sort) {
-        List<Item> items;
+        if (itemSearchIndex.isReady()) {
+            List<Long> ids = itemSearchIndex.search(keyword, category, sort);
+            return findAllByIdInOrder(ids);
+        }
+
+        return itemRepository.searchItems(
+                toKeywordParam(keyword), toCategoryParam(category), ModerationStatus.VISIBLE, toSort(sort));
+    }
+
+    /**
+     * 복합 검색 (페이징)
+     * - 정렬된 결과에서 현재 페이지에 해당하는 상품만 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<Item> searchItemsPage(String keyword, String category, String sort, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, toSort(sort));
+
+        if (itemSearchIndex.isReady()) {
+            ItemSearchIndex.SearchPage result = itemSearchIndex.search(
+                    keyword, category, sort, (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), size);
+            return new PageImpl<>(findAllByIdInOrder(result.ids()), pageable, result.total());
+        }
+
+        return itemRepository.searchItems(
+                toKeywordParam(keyword), toCategoryParam(category), ModerationStatus.VISIBLE, pageable);
+    }
 
-        // 1. 기본 검색
-        if ("all".equals(category)) {
-            items = searchItems(keyword);
-        } else {
-            items = searchItemsByCategory(keyword, category);
+    /**
+     * 복합 검색 (커서 기반 페이징, 최신순)
+     * - 뒤쪽 페이지로 갈수록 느려지는 OFFSET 대신 (등록일, ID) 커서 사용
+     *
+     * @param cursor 이전 페이지의 마지막 상품 커서 (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public Slice<Item> searchItemsSlice(String keyword, String category, SearchCursor cursor, int size) {
+        LocalDateTime cursorCreatedAt = cursor != null ? cursor.getCreatedAt() : null;
+        Long cursorId = cursor != null ? cursor.getId() : null;
+
+        if (itemSearchIndex.isReady()) {
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+            List<Long> ids = itemSearchIndex.searchAfter(keyword, category, cursorCreatedAt, cursorId, size + 1);
+            boolean hasNext = ids.size() > size;
+            List<Item> content = findAllByIdInOrder(hasNext ? ids.subList(0, size) : ids);
+            return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
         }
 
-        // 2. 정렬 적용
-        return applySorting(items, sort);
+        return itemRepository.searchItemsAfter(
+                toKeywordParam(keyword), toCategoryParam(category), ModerationStatus.VISIBLE,
+                cursorCreatedAt, cursorId, PageRequest.of(0, size));
     }
 
     /**
@@ -246,7 +356,9 @@ public class ItemService {
         }
 
         item.setSellStatus(newStatus);
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.statusChanged(savedItem));
+        return savedItem;
     }
 
     // ===== 통계 및 관리 =====
@@ -256,6 +368,9 @@ public class ItemService {
      */
     @Transactional(readOnly = true)
     public long getItemCountByCategory(String category) {
+        if (itemFacetIndex.isReady()) {
+            return itemFacetIndex.countByCategory(category);
+        }
         return itemRepository.countByCategoryAndModerationStatus(category, ModerationStatus.VISIBLE);
     }
 
@@ -307,21 +422,59 @@ public class ItemService {
     }
 
     /**
-     * 검색 결과 정렬 적용
+     * ID 목록 순서대로 상품 조회 (판매자까지 IN 쿼리 한 번으로 조회 후 순서 복원)
+     */
+    private List<Item> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Item> itemsById = new HashMap<>();
+        for (Item item : itemRepository.findAllWithSellerByIdIn(ids)) {
+            itemsById.put(item.getId(), item);
+        }
+
+        List<Item> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Item item = itemsById.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 정렬 옵션을 DB 정렬 조건으로 변환 (같은 값이면 최신순)
      */
-    private List<Item> applySorting(List<Item> items, String sort) {
+    private Sort toSort(String sort) {
+        Sort latest = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
         if ("price_low".equals(sort)) {
-            items.sort((a, b) -> Integer.compare(a.getPrice(), b.getPrice()));
+            return Sort.by(Sort.Order.asc("price")).and(latest);
         } else if ("price_high".equals(sort)) {
-            items.sort((a, b) -> Integer.compare(b.getPrice(), a.getPrice()));
+            return Sort.by(Sort.Order.desc("price")).and(latest);
         } else if ("view_count".equals(sort)) {
-            items.sort((a, b) -> Integer.compare(b.getViewCount(), a.getViewCount()));
+            return Sort.by(Sort.Order.desc("viewCount")).and(latest);
         } else if ("wish_count".equals(sort)) {
-            items.sort((a, b) -> Integer.compare(b.getWishCount(), a.getWishCount()));
+            return Sort.by(Sort.Order.desc("wishCount")).and(latest);
         }
-        // "latest"는 기본 정렬이므로 별도 처리 없음
+        // "latest"는 기본 정렬
+        return latest;
+    }
+
+    /**
+     * 검색어 파라미터 변환 (null이면 빈 문자열 = 전체)
+     */
+    private String toKeywordParam(String keyword) {
+        return keyword != null ? keyword.trim() : "";
+    }
 
-        return items;
+    /**
+     * 카테고리 파라미터 변환 ("all"이면 null = 전체)
+     */
+    private String toCategoryParam(String category) {
+        return category == null || "all".equals(category) ? null : category;
     }
     // ItemService.java에 추가해야 할 메서드들
 
@@ -353,7 +506,9 @@ public class ItemService {
 
         // AdminLog는 AdminService나 AdminLogService에서 처리하므로 여기서는 제거
         // 단순히 아이템 상태만 변경
-        return itemRepository.save(item);
+        Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemChangedEvent.moderated(savedItem));
+        return savedItem;
     }
 
     // 5. 아이템 통계
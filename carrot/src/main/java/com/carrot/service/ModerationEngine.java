@@ -0,0 +1,226 @@
+package com.carrot.service;
+
+import com.carrot.entity.BannedWord;
+import com.carrot.repository.BannedWordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자동 필터링 엔진
+ *
+ * - 금지어 = 기본 금지어 + 금지어 파일(carrot.moderation.words-file) + banned_words 테이블
+ * - 금지어 목록으로 BannedWordMatcher(Aho-Corasick)를 만들어 AtomicReference로 통째로 교체
+ *   (검사 중인 요청은 이전 오토마톤을 그대로 사용하므로 잠금 없이 재시작 없이 교체 가능)
+ * - 파일이나 테이블이 바뀌면 주기적으로 감지해서 다시 로드
+ */
+@Slf4j
+@Component
+public class ModerationEngine {
+
+    /**
+     * 기본 금지어 (파일/DB 설정과 관계없이 항상 포함)
+     */
+    public static final List<String> DEFAULT_WORDS = List.of(
+            "욕설1", "욕설2", "사기", "도둑", "가짜"
+    );
+
+    private static final BannedWordMatcher DEFAULT_MATCHER = new BannedWordMatcher(DEFAULT_WORDS);
+
+    @Autowired
+    private BannedWordRepository bannedWordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${carrot.moderation.words-file:}")
+    private String wordsFile;
+
+    @Value("${carrot.moderation.ignore-whitespace:true}")
+    private boolean ignoreWhitespace;
+
+    private final AtomicReference<BannedWordMatcher> matcher = new AtomicReference<>(DEFAULT_MATCHER);
+
+    // 다시 읽기는 한 번에 하나만 (금지어 테이블 조회 중에도 가상 스레드의 캐리어를 놓아주도록 ReentrantLock)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    // 금지어 추가도 한 번에 하나만 (동시에 같은 단어를 추가하다 UNIQUE 제약으로 실패하지 않도록)
+    private final ReentrantLock addLock = new ReentrantLock();
+
+    // 마지막 로드 시점의 파일/테이블 상태 (변경 감지용)
+    private volatile String loadedVersion;
+    private volatile LocalDateTime loadedAt;
+
+    /**
+     * 기본 금지어만으로 만든 오토마톤 (스프링 컨텍스트 밖에서 사용할 때)
+     */
+    public static BannedWordMatcher defaultMatcher() {
+        return DEFAULT_MATCHER;
+    }
+
+    /**
+     * 현재 사용 중인 오토마톤
+     */
+    public BannedWordMatcher current() {
+        return matcher.get();
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public String getWordsFile() {
+        return wordsFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 금지어를 다시 읽어서 오토마톤 교체
+     *
+     * @return 로드된 금지어 수
+     */
+    public int reload() {
+        reloadLock.lock();
+        try {
+            String version = currentVersion();
+            List<String> words = loadWords();
+
+            long start = System.currentTimeMillis();
+            BannedWordMatcher loaded = new BannedWordMatcher(words, ignoreWhitespace);
+            matcher.set(loaded);
+
+            loadedVersion = version;
+            loadedAt = LocalDateTime.now();
+            log.info("금지어 로드 완료: {}개, {}ms", loaded.size(), System.currentTimeMillis() - start);
+            return loaded.size();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 금지어 파일/테이블이 바뀌었으면 다시 로드
+     */
+    @Scheduled(initialDelayString = "${carrot.moderation.reload-check-ms:60000}",
+            fixedDelayString = "${carrot.moderation.reload-check-ms:60000}")
+    public void reloadIfChanged() {
+        try {
+            if (!currentVersion().equals(loadedVersion)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("금지어 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 금지어 추가 (이미 있는 단어는 건너뜀) 후 커밋되면 바로 반영
+     * - 이미 있는 단어는 IN 조회 한 번으로 확인하고, 나머지는 한 트랜잭션에서 저장 (중간에 실패하면 전부 취소)
+     *
+     * @return 새로 추가된 금지어 수
+     */
+    public int addWords(Collection<String> words) {
+        Set<String> candidates = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word != null && !word.isBlank()) {
+                candidates.add(word.trim());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        int added;
+        addLock.lock();
+        try {
+            added = transactionTemplate.execute(status -> {
+                Set<String> existing = new HashSet<>(bannedWordRepository.findExistingWords(candidates));
+                List<BannedWord> newWords = candidates.stream()
+                        .filter(word -> !existing.contains(word))
+                        .map(BannedWord::new)
+                        .toList();
+                bannedWordRepository.saveAll(newWords);
+                return newWords.size();
+            });
+        } finally {
+            addLock.unlock();
+        }
+        if (added > 0) {
+            TransactionCallbacks.afterCommit(this::reload);
+        }
+        return added;
+    }
+
+    private List<String> loadWords() {
+        Set<String> words = new LinkedHashSet<>(DEFAULT_WORDS);
+
+        Path file = wordsFilePath();
+        if (file != null) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    String word = line.trim();
+                    if (!word.isEmpty() && !word.startsWith("#")) {
+                        words.add(word);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("금지어 파일을 읽을 수 없습니다: {} ({})", file, e.getMessage());
+            }
+        }
+
+        words.addAll(bannedWordRepository.findAllWords());
+        return new ArrayList<>(words);
+    }
+
+    // 파일 수정 시각/크기 + 테이블 행 수/최대 ID
+    private String currentVersion() {
+        StringBuilder version = new StringBuilder();
+
+        Path file = wordsFilePath();
+        if (file != null) {
+            try {
+                version.append(Files.getLastModifiedTime(file).toMillis()).append(':').append(Files.size(file));
+            } catch (IOException e) {
+                version.append("missing");
+            }
+        }
+
+        List<Object[]> rows = bannedWordRepository.findVersion();
+        if (!rows.isEmpty()) {
+            version.append('|').append(rows.get(0)[0]).append(':').append(rows.get(0)[1]);
+        }
+        return version.toString();
+    }
+
+    private Path wordsFilePath() {
+        if (wordsFile == null || wordsFile.isBlank()) {
+            return null;
+        }
+        Path path = Paths.get(wordsFile);
+        return Files.isRegularFile(path) ? path : null;
+    }
+}
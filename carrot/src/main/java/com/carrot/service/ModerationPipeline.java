@@ -0,0 +1,233 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.entity.AdminLog;
+import com.carrot.entity.Item;
+import com.carrot.entity.ItemModerationState;
+import com.carrot.entity.WantedItem;
+import com.carrot.repository.AdminLogRepository;
+import com.carrot.repository.ItemModerationStateRepository;
+import com.carrot.repository.ItemRepository;
+import com.carrot.repository.WantedItemRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 자동 필터링 파이프라인
+ *
+ * - 상품 등록/수정 트랜잭션이 커밋되면 ContentModerationEvent를 큐에 넣기만 하고 바로 반환
+ *   (등록 응답 시간이 금지어 검사 비용과 무관)
+ * - 가상 스레드 워커가 큐에서 여러 건을 한꺼번에 꺼내 현재 내용을 일괄 조회한 뒤 검사
+ * - 적발된 상품은 BLINDED 일괄 UPDATE 한 문장 + AdminLog/현재 상태 일괄 저장을 한 트랜잭션으로 처리
+ * - 큐가 가득 차면 별도 가상 스레드에서 바로 처리 (이벤트 유실 방지)
+ */
+@Slf4j
+@Component
+public class ModerationPipeline {
+
+    public static final String SYSTEM_MODERATOR = "system@carrot.com";
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WantedItemRepository wantedItemRepository;
+
+    @Autowired
+    private AdminLogRepository adminLogRepository;
+
+    @Autowired
+    private ItemModerationStateRepository itemModerationStateRepository;
+
+    @Autowired
+    private ModerationEngine moderationEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${carrot.moderation.workers:2}")
+    private int workerCount;
+
+    @Value("${carrot.moderation.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${carrot.moderation.batch-size:100}")
+    private int batchSize;
+
+    private BlockingQueue<ContentModerationEvent> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("moderation-" + i).start(this::runWorker));
+        }
+        log.info("자동 필터링 워커 시작: {}개 (큐 {}건, 배치 {}건)", workerCount, queueCapacity, batchSize);
+    }
+
+    /**
+     * 등록/수정 트랜잭션 커밋 이후 큐에 추가 (트랜잭션 밖에서 발행된 경우 바로 추가)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentModerationEvent event) {
+        if (event.getId() == null) {
+            return;
+        }
+        if (!running || !queue.offer(event)) {
+            // 커밋 직후 콜백 안에서는 끝난 트랜잭션에 합류하게 되므로(변경/후속 콜백 유실) 별도 스레드에서 처리
+            log.warn("자동 필터링 큐가 가득 차서 별도 스레드에서 처리: {}", event);
+            Thread.ofVirtual().name("moderation-overflow").start(() -> processQuietly(List.of(event)));
+        }
+    }
+
+    /**
+     * 아직 처리되지 않은 이벤트 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void runWorker() {
+        List<ContentModerationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ContentModerationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("자동 필터링 처리 실패 ({}건): {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void processQuietly(List<ContentModerationEvent> events) {
+        try {
+            process(events);
+        } catch (Exception e) {
+            log.error("자동 필터링 처리 실패 ({}건): {}", events.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이벤트 묶음 처리
+     */
+    void process(List<ContentModerationEvent> events) {
+        Set<Long> itemIds = new LinkedHashSet<>();
+        Set<Long> wantedItemIds = new LinkedHashSet<>();
+        for (ContentModerationEvent event : events) {
+            if (event.getTarget() == ContentModerationEvent.Target.ITEM) {
+                itemIds.add(event.getId());
+            } else {
+                wantedItemIds.add(event.getId());
+            }
+        }
+
+        BannedWordMatcher matcher = moderationEngine.current();
+        if (!itemIds.isEmpty()) {
+            moderateItems(itemIds, matcher);
+        }
+        if (!wantedItemIds.isEmpty()) {
+            moderateWantedItems(wantedItemIds, matcher);
+        }
+    }
+
+    private void moderateItems(Set<Long> itemIds, BannedWordMatcher matcher) {
+        Map<Long, AdminLog> logs = new LinkedHashMap<>();
+
+        // 처리 시점의 최신 내용으로 검사 (이벤트 이후 다시 수정된 경우 대비)
+        for (Item item : itemRepository.findAllById(itemIds)) {
+            if (item.getModerationStatus() != ModerationStatus.VISIBLE) {
+                continue;
+            }
+            List<String> words = matcher.findAll(item.getTitle() + " " + item.getDescription());
+            if (words.isEmpty()) {
+                continue;
+            }
+            AdminLog adminLog = new AdminLog();
+            adminLog.setItemId(item.getId());
+            adminLog.blindWithReason("부적절한 단어 감지: " + String.join(", ", words), SYSTEM_MODERATOR);
+            logs.put(item.getId(), adminLog);
+        }
+
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        // 검사 이후 관리자가 먼저 처리한 상품은 빼고, 실제로 상태가 바뀐 상품만 기록
+        List<Long> blindIds = transactionTemplate.execute(status -> {
+            List<Long> changedIds = itemRepository
+                    .findAllForUpdateByIdInAndModerationStatus(logs.keySet(), ModerationStatus.VISIBLE)
+                    .stream().map(Item::getId).toList();
+            if (changedIds.isEmpty()) {
+                return changedIds;
+            }
+            itemRepository.updateModerationStatus(changedIds, ModerationStatus.VISIBLE, ModerationStatus.BLINDED);
+            List<AdminLog> savedLogs = adminLogRepository.saveAll(changedIds.stream().map(logs::get).toList());
+            itemModerationStateRepository.saveAll(savedLogs.stream().map(ItemModerationState::from).toList());
+            // 검색 색인/상세 캐시/피드/패싯/SSE는 이 트랜잭션이 커밋된 뒤 반영
+            changedIds.forEach(itemId -> eventPublisher.publishEvent(ItemChangedEvent.hidden(itemId)));
+            return changedIds;
+        });
+        if (blindIds == null || blindIds.isEmpty()) {
+            return;
+        }
+
+        log.info("자동 필터링 블라인드: {}건 {}", blindIds.size(), blindIds);
+    }
+
+    // 구매희망상품은 관리 상태 컬럼이 없으므로 적발 내역만 기록
+    private void moderateWantedItems(Set<Long> wantedItemIds, BannedWordMatcher matcher) {
+        for (WantedItem wantedItem : wantedItemRepository.findAllById(wantedItemIds)) {
+            List<String> words = matcher.findAll(wantedItem.getTitle() + " " + wantedItem.getDescription());
+            if (!words.isEmpty()) {
+                log.warn("구매희망상품 부적절한 단어 감지: id={}, words={}", wantedItem.getId(), words);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 이벤트를 처리할 시간을 잠시 준 뒤 워커 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (!queue.isEmpty()) {
+            log.warn("처리되지 않은 자동 필터링 이벤트 {}건", queue.size());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.entity.Item;
+import com.carrot.repository.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메인 페이지 "최근 등록 상품" 피드
+ *
+ * - 최신 VISIBLE 상품 capacity개를 등록일 역순 배열로 메모리에 보관
+ *   (새 상품이 들어오면 가장 오래된 상품이 밀려나는 고정 크기 버퍼)
+ * - 변경 시 새 배열을 만들어 CAS로 교체하므로 읽기/쓰기 모두 잠금 없음
+ *   (읽는 쪽은 교체 전 배열을 그대로 보므로 항상 일관된 목록)
+ * - 등록/수정/관리상태 변경/삭제 시 커밋 이후 반영, 시작 시 DB에서 다시 구성
+ * - 블라인드/삭제로 절반 아래로 줄어들면 DB에서 다시 채움
+ */
+@Slf4j
+@Component
+public class RecentItemsFeed {
+
+    private static final Comparator<ItemDetailSnapshot> NEWEST_FIRST =
+            Comparator.comparing(ItemDetailSnapshot::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(ItemDetailSnapshot::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Value("${carrot.recent-feed.capacity:30}")
+    private int capacity;
+
+    // 변경할 때마다 새 배열로 교체 (배열 내용은 교체 후 바뀌지 않음)
+    private final AtomicReference<ItemDetailSnapshot[]> feed = new AtomicReference<>(new ItemDetailSnapshot[0]);
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    /**
+     * 최근 상품 limit개 (DB 접근 없음)
+     * 반환되는 Item은 영속 상태가 아닌 새 객체
+     */
+    public List<Item> getRecentItems(int limit) {
+        ItemDetailSnapshot[] items = feed.get();
+        int size = Math.min(limit, items.length);
+        List<Item> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(items[i].toItem());
+        }
+        return result;
+    }
+
+    public int size() {
+        return feed.get().length;
+    }
+
+    /**
+     * DB에서 한 번 구성된 뒤 limit개까지 피드로 응답할 수 있는지
+     */
+    public boolean canServe(int limit) {
+        return ready && limit <= capacity;
+    }
+
+    // ===== 변경 반영 =====
+
+    /**
+     * 상품 변경 반영 (커밋 이후)
+     * VISIBLE이면 추가/교체, 아니면 제거
+     * 스냅샷은 이벤트 발행 시점(트랜잭션 안)에 만들어지므로 판매자 지연 로딩 문제 없음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isVisible()) {
+            upsert(event.getItem());
+        } else {
+            remove(event.getItemId());
+        }
+    }
+
+    void upsert(ItemDetailSnapshot snapshot) {
+        ItemDetailSnapshot[] items;
+        ItemDetailSnapshot[] next;
+        do {
+            items = feed.get();
+
+            List<ItemDetailSnapshot> merged = new ArrayList<>(items.length + 1);
+            for (ItemDetailSnapshot existing : items) {
+                if (!existing.getId().equals(snapshot.getId())) {
+                    merged.add(existing);
+                }
+            }
+            merged.add(snapshot);
+            merged.sort(NEWEST_FIRST);
+            if (merged.size() > capacity) {
+                merged = merged.subList(0, capacity);
+            }
+            next = merged.toArray(new ItemDetailSnapshot[0]);
+        } while (!feed.compareAndSet(items, next));
+    }
+
+    void remove(Long itemId) {
+        ItemDetailSnapshot[] items;
+        ItemDetailSnapshot[] next;
+        do {
+            items = feed.get();
+            next = Arrays.stream(items)
+                    .filter(existing -> !existing.getId().equals(itemId))
+                    .toArray(ItemDetailSnapshot[]::new);
+            if (next.length == items.length) {
+                return;
+            }
+        } while (!feed.compareAndSet(items, next));
+
+        if (next.length < capacity / 2) {
+            refillInBackground();
+        }
+    }
+
+    // ===== DB에서 다시 구성 =====
+
+    /**
+     * 애플리케이션 시작 완료 후 DB의 최근 상품으로 피드 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // DB를 읽는 동안 들어온 변경이 있으면 다시 읽음 (최대 3번, 이후에는 다음 변경 시 보정)
+        for (int attempt = 0; attempt < 3; attempt++) {
+            ItemDetailSnapshot[] current = feed.get();
+            ItemDetailSnapshot[] loaded = itemRepository.findRecentItemsWithSeller(
+                            ModerationStatus.VISIBLE, PageRequest.of(0, capacity)).stream()
+                    .map(ItemDetailSnapshot::new)
+                    .toArray(ItemDetailSnapshot[]::new);
+            if (feed.compareAndSet(current, loaded)) {
+                ready = true;
+                log.info("최근 상품 피드 구성 완료: {}건", loaded.length);
+                return;
+            }
+        }
+        log.warn("최근 상품 피드 구성 중 변경이 계속되어 기존 피드를 유지합니다");
+    }
+
+    private void refillInBackground() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("recent-feed-refill").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("최근 상품 피드 다시 채우기 실패: {}", e.getMessage());
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+}
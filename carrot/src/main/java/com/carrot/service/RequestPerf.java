@@ -0,0 +1,79 @@
+package com.carrot.service;
+
+/**
+ * 요청 하나의 성능 측정값 (SQL 실행 수, JDBC 시간, 엔티티 로딩 수, 캐시 적중 수)
+ *
+ * - 요청을 처리하는 스레드에 묶어 두고, Hibernate 이벤트/캐시에서 현재 스레드의 값에 더함
+ * - 측정 중인 요청이 없는 스레드(스케줄러, 백그라운드 작업)에서는 아무 것도 하지 않음
+ * - 한 요청은 한 스레드에서만 변경되므로 동기화 없음
+ */
+public class RequestPerf {
+
+    private static final ThreadLocal<RequestPerf> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+    private int cacheHits;
+
+    // ===== 요청 시작/종료 (RequestPerfMonitor에서 호출) =====
+
+    static RequestPerf start() {
+        RequestPerf perf = new RequestPerf();
+        CURRENT.set(perf);
+        return perf;
+    }
+
+    static RequestPerf finish() {
+        RequestPerf perf = CURRENT.get();
+        CURRENT.remove();
+        return perf;
+    }
+
+    // ===== 측정 (현재 스레드에 측정 중인 요청이 있을 때만 반영) =====
+
+    public static void statementExecuted(long nanos) {
+        RequestPerf perf = CURRENT.get();
+        if (perf != null) {
+            perf.statements++;
+            perf.jdbcNanos += nanos;
+        }
+    }
+
+    public static void entityLoaded() {
+        RequestPerf perf = CURRENT.get();
+        if (perf != null) {
+            perf.entityLoads++;
+        }
+    }
+
+    public static void cacheHit() {
+        RequestPerf perf = CURRENT.get();
+        if (perf != null) {
+            perf.cacheHits++;
+        }
+    }
+
+    // ===== 조회 =====
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+}
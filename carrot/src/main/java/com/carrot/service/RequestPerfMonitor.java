@@ -0,0 +1,248 @@
+package com.carrot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 컨트롤러 메서드별 요청 성능 측정
+ *
+ * - 요청마다 SQL 실행 수, JDBC 시간, 엔티티 로딩 수, 캐시 적중 수를 RequestPerf로 모음
+ *   (화면 렌더링 중 지연 로딩까지 포함하도록 afterCompletion에서 마감)
+ * - 컨트롤러 메서드별로 Micrometer 지표(carrot.request.*)와 누적 통계를 기록
+ * - SQL 수나 응답 시간이 기준을 넘으면 경고 로그를 남기고 최근 초과 요청 목록에 보관
+ */
+@Slf4j
+@Component
+public class RequestPerfMonitor implements AsyncHandlerInterceptor {
+
+    // Actuator 자동 설정이 없는 환경(@WebMvcTest 등)에서는 레지스트리가 없으므로 메모리 레지스트리에 기록
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry fallbackRegistry = new SimpleMeterRegistry();
+
+    @Value("${carrot.perf.enabled:true}")
+    private boolean enabled;
+
+    @Value("${carrot.perf.max-statements:30}")
+    private int maxStatements;
+
+    @Value("${carrot.perf.max-latency-ms:1000}")
+    private long maxLatencyMs;
+
+    @Value("${carrot.perf.recent-slow-size:50}")
+    private int recentSlowSize;
+
+    private final Map<String, HandlerStats> statsByHandler = new ConcurrentHashMap<>();
+    private final Deque<Map<String, Object>> recentSlow = new ArrayDeque<>();
+
+    // ===== 요청 측정 =====
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 정적 리소스 등 컨트롤러 메서드가 아닌 요청은 측정하지 않음
+        if (enabled && handler instanceof HandlerMethod) {
+            RequestPerf.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestPerf perf = RequestPerf.finish();
+        if (perf == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String name = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        record(name, request.getMethod() + " " + request.getRequestURI(), perf);
+    }
+
+    /**
+     * 비동기 응답(SSE 등)은 요청 스레드를 반환할 때 측정을 버림
+     * (연결이 유지되는 시간이 응답 시간으로 잡히지 않도록, 스레드에 측정값이 남지 않도록)
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RequestPerf.finish();
+    }
+
+    private void record(String handler, String path, RequestPerf perf) {
+        long elapsedNanos = perf.getElapsedNanos();
+        HandlerStats stats = statsByHandler.computeIfAbsent(handler, this::newStats);
+        stats.record(perf, elapsedNanos);
+
+        List<String> exceeded = new ArrayList<>();
+        if (perf.getStatements() > maxStatements) {
+            exceeded.add("statements");
+            stats.statementsExceeded.increment();
+        }
+        if (TimeUnit.NANOSECONDS.toMillis(elapsedNanos) > maxLatencyMs) {
+            exceeded.add("latency");
+            stats.latencyExceeded.increment();
+        }
+        if (!exceeded.isEmpty()) {
+            log.warn("요청 성능 기준 초과 [{}] {} - SQL {}회, {}ms (JDBC {}ms), 엔티티 로딩 {}건",
+                    String.join(",", exceeded), path, perf.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    TimeUnit.NANOSECONDS.toMillis(perf.getJdbcNanos()), perf.getEntityLoads());
+            rememberSlow(handler, path, perf, elapsedNanos, exceeded);
+        }
+    }
+
+    private void rememberSlow(String handler, String path, RequestPerf perf, long elapsedNanos, List<String> exceeded) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("time", LocalDateTime.now());
+        entry.put("handler", handler);
+        entry.put("path", path);
+        entry.put("exceeded", exceeded);
+        entry.put("statements", perf.getStatements());
+        entry.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        entry.put("jdbcMs", TimeUnit.NANOSECONDS.toMillis(perf.getJdbcNanos()));
+        entry.put("entityLoads", perf.getEntityLoads());
+        entry.put("cacheHits", perf.getCacheHits());
+        synchronized (recentSlow) {
+            recentSlow.addFirst(entry);
+            while (recentSlow.size() > recentSlowSize) {
+                recentSlow.removeLast();
+            }
+        }
+    }
+
+    // ===== 조회 (관리자 API) =====
+
+    /**
+     * 기준값, 컨트롤러 메서드별 누적 통계(SQL 실행 수 많은 순), 최근 기준 초과 요청
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> budgets = new LinkedHashMap<>();
+        budgets.put("enabled", enabled);
+        budgets.put("maxStatements", maxStatements);
+        budgets.put("maxLatencyMs", maxLatencyMs);
+
+        List<Map<String, Object>> handlers = statsByHandler.entrySet().stream()
+                .map(entry -> entry.getValue().toMap(entry.getKey()))
+                .sorted(Comparator.comparingLong((Map<String, Object> row) -> (Long) row.get("totalStatements")).reversed())
+                .toList();
+
+        List<Map<String, Object>> slow;
+        synchronized (recentSlow) {
+            slow = new ArrayList<>(recentSlow);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("budgets", budgets);
+        result.put("handlers", handlers);
+        result.put("recentSlowRequests", slow);
+        return result;
+    }
+
+    // ===== 컨트롤러 메서드별 통계 =====
+
+    private HandlerStats newStats(String handler) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> fallbackRegistry);
+        return new HandlerStats(
+                Timer.builder("carrot.request.duration").tag("handler", handler).register(meterRegistry),
+                DistributionSummary.builder("carrot.request.statements").tag("handler", handler).register(meterRegistry),
+                Timer.builder("carrot.request.jdbc.time").tag("handler", handler).register(meterRegistry),
+                DistributionSummary.builder("carrot.request.entity.loads").tag("handler", handler).register(meterRegistry),
+                Counter.builder("carrot.request.cache.hits").tag("handler", handler).register(meterRegistry),
+                Counter.builder("carrot.request.budget.exceeded").tag("handler", handler).tag("budget", "statements").register(meterRegistry),
+                Counter.builder("carrot.request.budget.exceeded").tag("handler", handler).tag("budget", "latency").register(meterRegistry));
+    }
+
+    /**
+     * 컨트롤러 메서드 하나의 지표 + 누적값 (지표는 처음 한 번만 등록해서 재사용)
+     */
+    private static final class HandlerStats {
+        private final Timer duration;
+        private final DistributionSummary statements;
+        private final Timer jdbcTime;
+        private final DistributionSummary entityLoads;
+        private final Counter cacheHits;
+        private final Counter statementsExceeded;
+        private final Counter latencyExceeded;
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder totalStatements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalJdbcNanos = new LongAdder();
+        private final LongAdder totalEntityLoads = new LongAdder();
+        private final LongAdder totalCacheHits = new LongAdder();
+
+        HandlerStats(Timer duration, DistributionSummary statements, Timer jdbcTime, DistributionSummary entityLoads,
+                     Counter cacheHits, Counter statementsExceeded, Counter latencyExceeded) {
+            this.duration = duration;
+            this.statements = statements;
+            this.jdbcTime = jdbcTime;
+            this.entityLoads = entityLoads;
+            this.cacheHits = cacheHits;
+            this.statementsExceeded = statementsExceeded;
+            this.latencyExceeded = latencyExceeded;
+        }
+
+        void record(RequestPerf perf, long elapsedNanos) {
+            duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            statements.record(perf.getStatements());
+            jdbcTime.record(perf.getJdbcNanos(), TimeUnit.NANOSECONDS);
+            entityLoads.record(perf.getEntityLoads());
+            cacheHits.increment(perf.getCacheHits());
+
+            requests.increment();
+            totalStatements.add(perf.getStatements());
+            maxStatements.accumulate(perf.getStatements());
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            totalJdbcNanos.add(perf.getJdbcNanos());
+            totalEntityLoads.add(perf.getEntityLoads());
+            totalCacheHits.add(perf.getCacheHits());
+        }
+
+        Map<String, Object> toMap(String handler) {
+            long count = requests.sum();
+            long statementSum = totalStatements.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("handler", handler);
+            row.put("requests", count);
+            row.put("totalStatements", statementSum);
+            row.put("avgStatements", count > 0 ? (double) statementSum / count : 0.0);
+            row.put("maxStatements", maxStatements.get());
+            row.put("avgMs", count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count) : 0);
+            row.put("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            row.put("avgJdbcMs", count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalJdbcNanos.sum() / count) : 0);
+            row.put("entityLoads", totalEntityLoads.sum());
+            row.put("cacheHits", totalCacheHits.sum());
+            row.put("statementsExceeded", (long) statementsExceeded.count());
+            row.put("latencyExceeded", (long) latencyExceeded.count());
+            return row;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.carrot.service;
 
+import com.carrot.dto.SystemStatsSnapshot;
 import com.carrot.entity.Item;
 import com.carrot.entity.User;
 import com.carrot.constant.ModerationStatus;
 import com.carrot.repository.ItemRepository;
 import com.carrot.repository.UserRepository;
 import com.carrot.repository.AdminLogRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +17,13 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 시스템 설정 및 통계 관련 서비스
+ * - 통계는 GROUP BY 집계 쿼리 몇 개로 계산한 스냅샷을 주기적으로 갱신해서 제공
  */
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 public class SystemSettingsService {
@@ -31,63 +37,24 @@ public class SystemSettingsService {
     @Autowired
     private AdminLogRepository adminLogRepository;
 
+    @Autowired
+    private RecentItemsFeed recentItemsFeed;
+
+    // 마지막으로 계산된 통계 스냅샷 (스케줄러가 교체)
+    private volatile SystemStatsSnapshot snapshot;
+
     /**
      * 전체 시스템 통계 조회
      */
     public Map<String, Object> getSystemStats() {
-        Map<String, Object> stats = new HashMap<>();
-
-        // 사용자 통계
-        stats.put("totalUsers", userRepository.count());
-        stats.put("activeUsers", userRepository.countByEnabled(true));
-        stats.put("inactiveUsers", userRepository.countByEnabled(false));
-        stats.put("adminUsers", userRepository.countByRole("ADMIN"));
-
-        // 이번 달 신규 사용자
-        LocalDateTime startOfMonth = LocalDateTime.now()
-                .withDayOfMonth(1)
-                .withHour(0)
-                .withMinute(0)
-                .withSecond(0)
-                .withNano(0);
-        stats.put("newUsersThisMonth", userRepository.countNewUsersThisMonth(startOfMonth));
-
-        // 상품 통계
-        stats.put("totalItems", itemRepository.count());
-        stats.put("visibleItems", itemRepository.countByModerationStatus(ModerationStatus.VISIBLE));
-        stats.put("blindedItems", itemRepository.countByModerationStatus(ModerationStatus.BLINDED));
-        stats.put("deletedItems", itemRepository.countByModerationStatus(ModerationStatus.DELETED));
-
-        // 오늘 등록된 상품 수
-        LocalDateTime startOfToday = LocalDateTime.now()
-                .withHour(0)
-                .withMinute(0)
-                .withSecond(0)
-                .withNano(0);
-        stats.put("itemsAddedToday", itemRepository.countByCreatedAtBetween(
-                startOfToday, LocalDateTime.now()));
-
-        // 관리 로그 통계
-        stats.put("totalAdminLogs", adminLogRepository.count());
-        stats.put("logsThisMonth", adminLogRepository.countByModeratedAtAfter(startOfMonth));
-
-        return stats;
+        return getSnapshot().getSystemStats();
     }
 
     /**
-     * 카테고리별 상품 통계
+     * 카테고리별 상품 통계 (표시 중인 상품 기준)
      */
     public Map<String, Long> getCategoryStats() {
-        Map<String, Long> categoryStats = new HashMap<>();
-        String[] categories = {"전자제품", "의류", "도서", "가구", "기타"};
-
-        for (String category : categories) {
-            long count = itemRepository.countByCategoryAndModerationStatus(
-                    category, ModerationStatus.VISIBLE);
-            categoryStats.put(category, count);
-        }
-
-        return categoryStats;
+        return getSnapshot().getCategoryStats();
     }
 
     /**
@@ -101,10 +68,12 @@ public class SystemSettingsService {
                 org.springframework.data.domain.PageRequest.of(0, 5)).getContent();
         activities.put("recentUsers", recentUsers);
 
-        // 최근 등록된 상품 5개
-        List<Item> recentItems = itemRepository.findRecentItems(
-                ModerationStatus.VISIBLE,
-                org.springframework.data.domain.PageRequest.of(0, 5));
+        // 최근 등록된 상품 5개 (피드가 준비되어 있으면 DB 접근 없음)
+        List<Item> recentItems = recentItemsFeed.canServe(5)
+                ? recentItemsFeed.getRecentItems(5)
+                : itemRepository.findRecentItems(
+                        ModerationStatus.VISIBLE,
+                        org.springframework.data.domain.PageRequest.of(0, 5));
         activities.put("recentItems", recentItems);
 
         return activities;
@@ -114,33 +83,118 @@ public class SystemSettingsService {
      * 기간별 통계 (일주일)
      */
     public Map<String, Object> getWeeklyStats() {
-        Map<String, Object> weeklyStats = new HashMap<>();
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
+        return getSnapshot().getWeeklyStats();
+    }
 
-        long newUsers = userRepository.countNewUsersThisMonth(weekAgo);
-        long newItems = itemRepository.countByCreatedAtBetween(weekAgo, LocalDateTime.now());
+    /**
+     * 데이터베이스 크기 정보 (간단한 추정)
+     */
+    public Map<String, Object> getDatabaseInfo() {
+        return getSnapshot().getDatabaseInfo();
+    }
+
+    // ===== 통계 스냅샷 =====
 
-        weeklyStats.put("newUsersThisWeek", newUsers);
-        weeklyStats.put("newItemsThisWeek", newItems);
+    /**
+     * 현재 통계 스냅샷 (아직 계산 전이면 바로 계산)
+     */
+    public SystemStatsSnapshot getSnapshot() {
+        SystemStatsSnapshot current = snapshot;
+        if (current == null) {
+            current = buildSnapshot();
+            snapshot = current;
+        }
+        return current;
+    }
 
-        return weeklyStats;
+    /**
+     * 통계 스냅샷 주기적 갱신 (요청 스레드와 무관하게 백그라운드에서 실행)
+     * 실패하면 이전 스냅샷을 그대로 사용
+     */
+    @Scheduled(initialDelayString = "${carrot.admin.system-stats-refresh-ms:60000}",
+            fixedDelayString = "${carrot.admin.system-stats-refresh-ms:60000}")
+    public void refreshSnapshot() {
+        try {
+            snapshot = buildSnapshot();
+        } catch (Exception e) {
+            log.warn("시스템 통계 갱신 실패: {}", e.getMessage());
+        }
     }
 
     /**
-     * 데이터베이스 크기 정보 (간단한 추정)
+     * 집계 쿼리 4개로 전체 통계 계산
+     * - 사용자: 상태/역할/가입 시점 조건부 집계 1회
+     * - 상품: 카테고리 × 관리 상태 히스토그램 1회 + 등록일 구간 집계 1회
+     * - 관리 로그: 전체/이번 달 집계 1회
      */
-    public Map<String, Object> getDatabaseInfo() {
+    private SystemStatsSnapshot buildSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfToday = now.toLocalDate().atStartOfDay();
+        LocalDateTime startOfMonth = startOfToday.withDayOfMonth(1);
+        LocalDateTime weekAgo = now.minusDays(7);
+
+        // 사용자 [전체, 활성, 관리자, 이번 달 가입, 이번 주 가입]
+        Object[] users = firstRow(userRepository.aggregateUserStats(startOfMonth, weekAgo), 5);
+        long totalUsers = toLong(users[0]);
+        long activeUsers = toLong(users[1]);
+
+        // 상품 카테고리 × 관리 상태 히스토그램
+        long totalItems = 0;
+        Map<ModerationStatus, Long> itemsByStatus = new HashMap<>();
+        Map<String, Long> categoryStats = new TreeMap<>();
+        for (Object[] row : itemRepository.countGroupByCategoryAndModerationStatus()) {
+            String category = (String) row[0];
+            ModerationStatus status = (ModerationStatus) row[1];
+            long count = toLong(row[2]);
+
+            totalItems += count;
+            itemsByStatus.merge(status, count, Long::sum);
+            if (status == ModerationStatus.VISIBLE && category != null) {
+                categoryStats.merge(category, count, Long::sum);
+            }
+        }
+
+        // 상품 등록일 구간 [오늘, 최근 7일]
+        Object[] itemBuckets = firstRow(itemRepository.countCreatedAtBuckets(startOfToday, weekAgo), 2);
+
+        // 관리 로그 [전체, 이번 달]
+        Object[] logs = firstRow(adminLogRepository.aggregateLogCounts(startOfMonth), 2);
+        long totalLogs = toLong(logs[0]);
+
+        Map<String, Object> systemStats = new HashMap<>();
+        systemStats.put("totalUsers", totalUsers);
+        systemStats.put("activeUsers", activeUsers);
+        systemStats.put("inactiveUsers", totalUsers - activeUsers);
+        systemStats.put("adminUsers", toLong(users[2]));
+        systemStats.put("newUsersThisMonth", toLong(users[3]));
+        systemStats.put("totalItems", totalItems);
+        systemStats.put("visibleItems", itemsByStatus.getOrDefault(ModerationStatus.VISIBLE, 0L));
+        systemStats.put("blindedItems", itemsByStatus.getOrDefault(ModerationStatus.BLINDED, 0L));
+        systemStats.put("deletedItems", itemsByStatus.getOrDefault(ModerationStatus.DELETED, 0L));
+        systemStats.put("itemsAddedToday", toLong(itemBuckets[0]));
+        systemStats.put("totalAdminLogs", totalLogs);
+        systemStats.put("logsThisMonth", toLong(logs[1]));
+
+        Map<String, Object> weeklyStats = new HashMap<>();
+        weeklyStats.put("newUsersThisWeek", toLong(users[4]));
+        weeklyStats.put("newItemsThisWeek", toLong(itemBuckets[1]));
+
         Map<String, Object> dbInfo = new HashMap<>();
+        dbInfo.put("totalRecords", totalUsers + totalItems + totalLogs);
+        dbInfo.put("userRecords", totalUsers);
+        dbInfo.put("itemRecords", totalItems);
+        dbInfo.put("logRecords", totalLogs);
 
-        long totalRecords = userRepository.count() +
-                itemRepository.count() +
-                adminLogRepository.count();
+        return new SystemStatsSnapshot(systemStats, categoryStats, weeklyStats, dbInfo, now);
+    }
 
-        dbInfo.put("totalRecords", totalRecords);
-        dbInfo.put("userRecords", userRepository.count());
-        dbInfo.put("itemRecords", itemRepository.count());
-        dbInfo.put("logRecords", adminLogRepository.count());
+    // 집계 쿼리는 항상 한 행을 돌려주지만 방어적으로 처리
+    private Object[] firstRow(List<Object[]> rows, int columns) {
+        return rows.isEmpty() ? new Object[columns] : rows.get(0);
+    }
 
-        return dbInfo;
+    // 행이 없으면 SUM 결과가 null
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.carrot.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 도우미
+ *
+ * - 트랜잭션 안이면 커밋된 뒤에 실행하고, 롤백되면 실행하지 않음
+ * - 트랜잭션 밖(스케줄러, 데이터 생성 등)이면 바로 실행
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
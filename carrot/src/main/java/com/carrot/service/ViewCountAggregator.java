@@ -0,0 +1,205 @@
+package com.carrot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 집계기
+ *
+ * - 상세 페이지 조회 시 DB UPDATE 대신 메모리의 LongAdder만 증가
+ *   (LongAdder는 내부적으로 셀을 나눠 쓰기 때문에 인기 상품에 조회가 몰려도 경합이 적음)
+ * - 주기적으로 누적된 증가분을 대상 테이블별 batch UPDATE 한 번으로 반영
+ * - 화면에 표시할 조회수는 DB 값 + 아직 반영되지 않은 증가분
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    /**
+     * 조회수 집계 대상 테이블
+     */
+    public enum Target {
+        ITEM("items", "item_id"),
+        WANTED_ITEM("wanted_items", "wanted_item_id"),
+        BOARD("board", "id");
+
+        private final String updateSql;
+
+        Target(String table, String idColumn) {
+            this.updateSql = "UPDATE " + table + " SET view_count = view_count + ? WHERE " + idColumn + " = ?";
+        }
+    }
+
+    /**
+     * 대상 ID별 조회수 카운터
+     * - adder: 지금까지 누적된 전체 조회수 증가분
+     * - flushed: 그중 DB에 반영된 양 (flushLock 안에서만 변경)
+     * - retiredAt: 맵에서 뺀 뒤 마지막으로 늦은 증가분이 보인 시각 (flushLock 안에서만 사용)
+     */
+    private static class Counter {
+        final LongAdder adder = new LongAdder();
+        volatile long flushed = 0;
+        long retiredAt;
+
+        long pending() {
+            return adder.sum() - flushed;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemDetailCache itemDetailCache;
+
+    private final Map<Target, ConcurrentHashMap<Long, Counter>> counters = new EnumMap<>(Target.class);
+
+    // 맵에서 뺀 유휴 카운터
+    // 빼기 직전에 카운터를 받아간 조회가 늦게 더해질 수 있으므로 RETIRED_GRACE_MS 동안 조용할 때까지 계속 반영한 뒤 버림
+    private static final long RETIRED_GRACE_MS = 60_000;
+    private final Map<Target, List<Map.Entry<Long, Counter>>> retired = new EnumMap<>(Target.class);
+
+    // 주기 반영과 종료 시 반영이 겹치지 않도록 (flushed 값 갱신과 유휴 카운터 정리는 이 잠금 안에서만)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private boolean closed;
+
+    public ViewCountAggregator() {
+        for (Target target : Target.values()) {
+            counters.put(target, new ConcurrentHashMap<>());
+            retired.put(target, new ArrayList<>());
+        }
+    }
+
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increment(Target target, Long id) {
+        if (id == null) {
+            return;
+        }
+        counters.get(target).computeIfAbsent(id, k -> new Counter()).adder.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public long pendingDelta(Target target, Long id) {
+        Counter counter = counters.get(target).get(id);
+        return counter != null ? Math.max(counter.pending(), 0) : 0;
+    }
+
+    /**
+     * DB 조회수 + 미반영 증가분 (화면 표시용)
+     */
+    public int currentViewCount(Target target, Long id, Integer storedViewCount) {
+        long stored = storedViewCount != null ? storedViewCount : 0;
+        return (int) Math.min(stored + pendingDelta(target, id), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영
+     * - 대상 테이블별로 batch UPDATE 한 번 실행
+     * - 실패하면 flushed 값을 올리지 않으므로 다음 주기에 다시 반영됨
+     * - 종료 시 반영이 끝난 뒤에는 아무것도 하지 않음
+     */
+    @Scheduled(fixedDelayString = "${carrot.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (Target target : Target.values()) {
+                flush(target);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flush(Target target) {
+        ConcurrentHashMap<Long, Counter> targetCounters = counters.get(target);
+        List<Map.Entry<Long, Counter>> retiredCounters = retired.get(target);
+        List<Counter> flushedCounters = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        // 이미 뺀 카운터에 늦게 더해진 조회수, 오래 조용했던 카운터는 버림
+        retiredCounters.removeIf(entry -> {
+            Counter counter = entry.getValue();
+            long delta = counter.pending();
+            if (delta <= 0) {
+                return now - counter.retiredAt >= RETIRED_GRACE_MS;
+            }
+            counter.retiredAt = now;
+            flushedCounters.add(counter);
+            deltas.add(delta);
+            batchArgs.add(new Object[]{delta, entry.getKey()});
+            return false;
+        });
+
+        for (Map.Entry<Long, Counter> entry : targetCounters.entrySet()) {
+            Counter counter = entry.getValue();
+            long delta = counter.pending();
+            if (delta <= 0) {
+                // 지난 주기 이후 조회가 없으면 카운터 제거 (메모리 회수)
+                if (targetCounters.remove(entry.getKey(), counter)) {
+                    counter.retiredAt = now;
+                    retiredCounters.add(Map.entry(entry.getKey(), counter));
+                }
+                continue;
+            }
+            flushedCounters.add(counter);
+            deltas.add(delta);
+            batchArgs.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(target.updateSql, batchArgs);
+            for (int i = 0; i < flushedCounters.size(); i++) {
+                Counter counter = flushedCounters.get(i);
+                counter.flushed = counter.flushed + deltas.get(i);
+            }
+            // 상세 캐시에 남은 DB 조회수는 이제 반영 전 값이므로 제거 (미반영분을 더하면 적게 보임)
+            if (target == Target.ITEM) {
+                for (Object[] args : batchArgs) {
+                    itemDetailCache.invalidate((Long) args[1]);
+                }
+            }
+            log.debug("조회수 반영: {} {}건", target, batchArgs.size());
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패 ({}), 다음 주기에 재시도: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영 (진행 중인 주기 반영이 끝나길 기다린 뒤 한 번만)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flush();
+            closed = true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.carrot.service;
+
+import com.carrot.constant.WantedStatus;
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.dto.WantedMatchNotification;
+import com.carrot.entity.WantedItem;
+import com.carrot.repository.WantedItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 구매희망 ↔ 판매 상품 매칭 엔진
+ *
+ * - ACTIVE 구매희망을 카테고리 → 지역 버킷 → 최대 희망가격 오름차순 배열로 메모리에 보관
+ * - 상품 등록 시 같은 카테고리/지역 버킷에서 maxPrice >= 가격인 첫 위치를 이진 탐색하고 그 뒤가 모두 매칭
+ * - 가격 인하 시 새 가격 <= maxPrice < 이전 가격 구간만 새로 매칭 (이미 매칭된 구매희망은 다시 세지 않음)
+ * - 상품 등록/수정(ItemChangedEvent)은 커밋 이후 대기열에만 넣고, 주기적으로 한꺼번에 매칭한 뒤
+ *   interest_count는 batch UPDATE 한 번으로, 알림은 구매자별 최근 목록에 반영
+ * - 구매희망 등록/수정/상태 변경/삭제 시 커밋 이후 반영, 시작 시 DB에서 구성
+ */
+@Slf4j
+@Component
+public class WantedItemMatcher {
+
+    // 시작 시 색인을 만들 때 한 번에 읽어오는 구매희망 수
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private static final String UPDATE_SQL =
+            "UPDATE wanted_items SET interest_count = interest_count + ? WHERE wanted_item_id = ?";
+
+    // 매칭 직전 확인: 아직 판매 중이고 숨겨지지 않은 상품 (IN 목록은 호출 시 채움)
+    private static final String AVAILABLE_SQL =
+            "SELECT item_id FROM items WHERE item_id IN (%s) AND sell_status = 'SELL' AND moderation_status = 'VISIBLE'";
+
+    // 매칭 직전 확인 조회 한 번에 넣는 상품 ID 수
+    private static final int AVAILABLE_CHECK_BATCH_SIZE = 500;
+
+    /**
+     * 색인된 구매희망 한 건
+     */
+    record Wanted(Long id, Long buyerId, String title, int maxPrice, String category, String location) {
+    }
+
+    /**
+     * 매칭 대기 중인 상품 (previousPrice가 null이면 새 상품 또는 카테고리/지역 변경)
+     */
+    record Candidate(Long itemId, Long sellerId, String title, int price, Integer previousPrice,
+                     String category, String location) {
+    }
+
+    /**
+     * 지역 버킷: 최대 희망가격 오름차순으로 정렬된 구매희망 배열
+     * - prices는 이진 탐색용으로 wanted의 maxPrice만 따로 모은 배열
+     */
+    static final class Bucket {
+        private Wanted[] wanted = new Wanted[4];
+        private int[] prices = new int[4];
+        private int size;
+
+        void insert(Wanted entry) {
+            int at = lowerBound(entry.maxPrice());
+            if (size == wanted.length) {
+                wanted = Arrays.copyOf(wanted, size * 2);
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            System.arraycopy(wanted, at, wanted, at + 1, size - at);
+            System.arraycopy(prices, at, prices, at + 1, size - at);
+            wanted[at] = entry;
+            prices[at] = entry.maxPrice();
+            size++;
+        }
+
+        void remove(Wanted entry) {
+            // 같은 가격의 구매희망 중에서 ID로 찾음
+            for (int i = lowerBound(entry.maxPrice()); i < size && prices[i] == entry.maxPrice(); i++) {
+                if (wanted[i].id().equals(entry.id())) {
+                    System.arraycopy(wanted, i + 1, wanted, i, size - i - 1);
+                    System.arraycopy(prices, i + 1, prices, i, size - i - 1);
+                    wanted[--size] = null;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * minPrice <= maxPrice < maxPriceExclusive 인 구매희망
+         */
+        void collect(int minPrice, long maxPriceExclusive, List<Wanted> out) {
+            for (int i = lowerBound(minPrice); i < size && prices[i] < maxPriceExclusive; i++) {
+                out.add(wanted[i]);
+            }
+        }
+
+        // maxPrice >= price 인 첫 위치
+        private int lowerBound(int price) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    @Autowired
+    private WantedItemRepository wantedItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 구매자별로 보관하는 최근 매칭 알림 수
+    @Value("${carrot.matching.notifications-per-buyer:20}")
+    private int notificationsPerBuyer;
+
+    private final Map<Long, Wanted> wantedById = new HashMap<>();
+    private final Map<String, Map<String, Bucket>> byCategory = new HashMap<>();
+
+    // 매칭(읽기)은 상품 등록마다, 색인 변경(쓰기)은 구매희망 변경 때만 일어나므로 읽기/쓰기 잠금 분리
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 대기열 처리와 interest_count 반영은 한 번에 하나만 (batch UPDATE를 기다리므로 모니터 대신 잠금 객체)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ConcurrentLinkedQueue<Candidate> candidates = new ConcurrentLinkedQueue<>();
+
+    // 반영 전 interest_count 증가분 (flush 안에서만 사용)
+    private final Map<Long, Integer> pendingInterest = new HashMap<>();
+
+    private final ConcurrentHashMap<Long, Deque<WantedMatchNotification>> notificationsByBuyer = new ConcurrentHashMap<>();
+
+    // ===== 색인 구성 =====
+
+    /**
+     * 애플리케이션 시작 완료 후 DB의 ACTIVE 구매희망으로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = wantedItemRepository.findMatchRowsAfter(
+                    WantedStatus.ACTIVE, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    put(new Wanted((Long) row[0], (Long) row[1], (String) row[2], (Integer) row[3],
+                            (String) row[4], (String) row[5]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            count += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        log.info("구매희망 매칭 색인 생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    // ===== 구매희망 변경 반영 =====
+
+    /**
+     * 구매희망 등록/수정/상태 변경 반영 (ACTIVE가 아니면 색인에서 제거)
+     */
+    public void updateAfterCommit(WantedItem wantedItem) {
+        Long wantedItemId = wantedItem.getId();
+        if (wantedItem.getWantedStatus() != WantedStatus.ACTIVE) {
+            TransactionCallbacks.afterCommit(() -> remove(wantedItemId));
+            return;
+        }
+        Wanted entry = new Wanted(wantedItemId, wantedItem.getBuyer().getId(), wantedItem.getTitle(),
+                wantedItem.getMaxPrice(), wantedItem.getCategory(), wantedItem.getLocation());
+        TransactionCallbacks.afterCommit(() -> update(entry));
+    }
+
+    public void removeAfterCommit(Long wantedItemId) {
+        TransactionCallbacks.afterCommit(() -> remove(wantedItemId));
+    }
+
+    void update(Wanted entry) {
+        lock.writeLock().lock();
+        try {
+            put(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long wantedItemId) {
+        lock.writeLock().lock();
+        try {
+            Wanted previous = wantedById.remove(wantedItemId);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void put(Wanted entry) {
+        Wanted previous = wantedById.put(entry.id(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byCategory.computeIfAbsent(entry.category(), k -> new HashMap<>())
+                .computeIfAbsent(locationKey(entry.location()), k -> new Bucket())
+                .insert(entry);
+    }
+
+    private void unindex(Wanted entry) {
+        Map<String, Bucket> byLocation = byCategory.get(entry.category());
+        if (byLocation == null) {
+            return;
+        }
+        String location = locationKey(entry.location());
+        Bucket bucket = byLocation.get(location);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+            byLocation.remove(location);
+            if (byLocation.isEmpty()) {
+                byCategory.remove(entry.category());
+            }
+        }
+    }
+
+    // ===== 상품 매칭 =====
+
+    /**
+     * 상품 변경을 커밋 이후 매칭 대기열에 반영
+     * - 새 상품, 카테고리/지역이 바뀐 상품은 전체 매칭, 가격만 내려가면 새로 조건에 들어온 구매희망만 매칭
+     * - 가격이 그대로거나 오른 경우는 새 매칭이 없으므로 무시
+     * - 판매 중(SELL)이고 VISIBLE인 상품만 대기열에 넣음
+     * - 판매 상태 변경/숨김/삭제로 살 수 없게 되면 아직 매칭 전인 대기열에서 빼고,
+     *   숨김/삭제된 상품은 이미 보낸 알림도 거둬들임 (구매희망 상세에 제목/링크가 남지 않도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemDetailSnapshot item = event.getItem();
+        if (!event.isVisible() || !item.isAvailableForSale()) {
+            candidates.removeIf(candidate -> candidate.itemId().equals(event.getItemId()));
+            if (!event.isVisible()) {
+                withdrawNotifications(event.getItemId());
+            }
+            return;
+        }
+        switch (event.getKind()) {
+            case REGISTERED -> enqueue(candidate(item, null));
+            case UPDATED -> {
+                boolean moved = !item.getCategory().equals(event.getPreviousCategory())
+                        || !locationKey(item.getLocation()).equals(locationKey(event.getPreviousLocation()));
+                if (moved) {
+                    enqueue(candidate(item, null));
+                } else if (item.getPrice() < event.getPreviousPrice()) {
+                    enqueue(candidate(item, event.getPreviousPrice()));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static Candidate candidate(ItemDetailSnapshot item, Integer previousPrice) {
+        return new Candidate(item.getId(), item.getSellerId(), item.getTitle(),
+                item.getPrice(), previousPrice, item.getCategory(), item.getLocation());
+    }
+
+    void enqueue(Candidate candidate) {
+        candidates.add(candidate);
+    }
+
+    /**
+     * 상품 하나에 매칭되는 구매희망 (판매자 본인의 구매희망 제외)
+     * - 카테고리/지역 버킷 하나에서 이진 탐색 O(log n) + 매칭 수
+     */
+    List<Wanted> match(Candidate candidate) {
+        List<Wanted> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Bucket> byLocation = byCategory.get(candidate.category());
+            Bucket bucket = byLocation != null ? byLocation.get(locationKey(candidate.location())) : null;
+            if (bucket != null) {
+                long upper = candidate.previousPrice() != null ? candidate.previousPrice() : Long.MAX_VALUE;
+                bucket.collect(candidate.price(), upper, matches);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.removeIf(wanted -> wanted.buyerId().equals(candidate.sellerId()));
+        return matches;
+    }
+
+    /**
+     * 대기열의 상품을 한꺼번에 매칭하고 interest_count와 알림에 반영
+     * - interest_count는 구매희망별 증가분을 모아 batch UPDATE 한 번으로 반영
+     * - 실패하면 증가분을 남겨두므로 다음 주기에 다시 반영됨
+     */
+    @Scheduled(fixedDelayString = "${carrot.matching.flush-interval-ms:2000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Candidate> batch = new ArrayList<>();
+            Candidate candidate;
+            while ((candidate = candidates.poll()) != null) {
+                batch.add(candidate);
+            }
+            if (!batch.isEmpty()) {
+                matchBatch(batch);
+            }
+
+            if (pendingInterest.isEmpty()) {
+                return;
+            }
+            List<Object[]> batchArgs = new ArrayList<>(pendingInterest.size());
+            for (Map.Entry<Long, Integer> entry : pendingInterest.entrySet()) {
+                batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+                pendingInterest.clear();
+                log.debug("구매희망 매칭 반영: {}건", batchArgs.size());
+            } catch (Exception e) {
+                log.warn("구매희망 매칭 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기열에서 꺼낸 상품 매칭
+     * 자동 필터링은 커밋 이후 비동기로 블라인드하므로, 매칭 직전에 현재 DB 상태로 판매 중 + VISIBLE인지 다시 확인
+     * (확인 조회가 실패하면 대기열에 되돌려 다음 주기에 다시 시도)
+     */
+    private void matchBatch(List<Candidate> batch) {
+        Set<Long> available;
+        try {
+            available = availableItemIds(batch.stream().map(Candidate::itemId).distinct().toList());
+        } catch (Exception e) {
+            candidates.addAll(batch);
+            log.warn("구매희망 매칭 대상 상품 확인 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Candidate candidate : batch) {
+            if (!available.contains(candidate.itemId())) {
+                continue;
+            }
+            for (Wanted wanted : match(candidate)) {
+                pendingInterest.merge(wanted.id(), 1, Integer::sum);
+                notify(wanted, candidate, now);
+            }
+        }
+    }
+
+    private Set<Long> availableItemIds(List<Long> itemIds) {
+        Set<Long> available = new HashSet<>();
+        for (int from = 0; from < itemIds.size(); from += AVAILABLE_CHECK_BATCH_SIZE) {
+            List<Long> chunk = itemIds.subList(from, Math.min(from + AVAILABLE_CHECK_BATCH_SIZE, itemIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            available.addAll(jdbcTemplate.queryForList(
+                    String.format(AVAILABLE_SQL, placeholders), Long.class, chunk.toArray()));
+        }
+        return available;
+    }
+
+    private void withdrawNotifications(Long itemId) {
+        for (Deque<WantedMatchNotification> notifications : notificationsByBuyer.values()) {
+            synchronized (notifications) {
+                notifications.removeIf(notification -> notification.getItemId().equals(itemId));
+            }
+        }
+    }
+
+    private void notify(Wanted wanted, Candidate candidate, LocalDateTime now) {
+        Deque<WantedMatchNotification> notifications =
+                notificationsByBuyer.computeIfAbsent(wanted.buyerId(), k -> new ArrayDeque<>());
+        synchronized (notifications) {
+            notifications.addFirst(new WantedMatchNotification(wanted.id(), wanted.title(),
+                    candidate.itemId(), candidate.title(), candidate.price(), now));
+            while (notifications.size() > notificationsPerBuyer) {
+                notifications.removeLast();
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 구매자의 최근 매칭 알림 (최신순)
+     */
+    public List<WantedMatchNotification> getNotifications(Long buyerId) {
+        Deque<WantedMatchNotification> notifications = notificationsByBuyer.get(buyerId);
+        if (notifications == null) {
+            return List.of();
+        }
+        synchronized (notifications) {
+            return new ArrayList<>(notifications);
+        }
+    }
+
+    /**
+     * 구매희망 한 건에 대한 최근 매칭 알림 (최신순)
+     */
+    public List<WantedMatchNotification> getNotifications(Long buyerId, Long wantedItemId) {
+        return getNotifications(buyerId).stream()
+                .filter(notification -> notification.getWantedItemId().equals(wantedItemId))
+                .toList();
+    }
+
+    /**
+     * 색인된 구매희망 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return wantedById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 매칭 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 지역은 앞뒤 공백만 정리해서 그대로 비교 (DB 매칭 조회도 같은 값 사용)
+    static String locationKey(String location) {
+        return location != null ? location.trim() : "";
+    }
+}
@@ -1,10 +1,15 @@
 package com.carrot.service;
 
+import com.carrot.entity.Item;
 import com.carrot.entity.WantedItem;
 import com.carrot.entity.User;
+import com.carrot.repository.ItemRepository;
 import com.carrot.repository.WantedItemRepository;
+import com.carrot.constant.ItemSellStatus;
+import com.carrot.constant.ModerationStatus;
 import com.carrot.constant.WantedStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,7 +27,16 @@ public class WantedItemService {
     private WantedItemRepository wantedItemRepository;
 
     @Autowired
-    private AdminService adminService;
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private WantedItemMatcher wantedItemMatcher;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * 구매희망상품 등록
@@ -34,14 +48,10 @@ public class WantedItemService {
 
             // 저장
             WantedItem savedWantedItem = wantedItemRepository.save(wantedItem);
+            wantedItemMatcher.updateAfterCommit(savedWantedItem);
 
-            // 자동 필터링 검사
-            adminService.autoModerateContent(
-                    savedWantedItem.getId(),
-                    savedWantedItem.getTitle(),
-                    savedWantedItem.getDescription(),
-                    "system@carrot.com"
-            );
+            // 자동 필터링 검사 (커밋 이후 비동기)
+            eventPublisher.publishEvent(ContentModerationEvent.wantedItem(savedWantedItem.getId()));
 
             return savedWantedItem;
 
@@ -71,7 +81,9 @@ public class WantedItemService {
 
         // 검증 및 저장
         validateWantedItem(existingWantedItem);
-        return wantedItemRepository.save(existingWantedItem);
+        WantedItem savedWantedItem = wantedItemRepository.save(existingWantedItem);
+        wantedItemMatcher.updateAfterCommit(savedWantedItem);
+        return savedWantedItem;
     }
 
     /**
@@ -86,18 +98,21 @@ public class WantedItemService {
         }
 
         wantedItemRepository.delete(wantedItem);
+        wantedItemMatcher.removeAfterCommit(wantedItemId);
     }
 
     /**
      * 구매희망상품 상세 조회
      */
+    @Transactional(readOnly = true)
     public WantedItem getWantedItemDetail(Long wantedItemId) throws Exception {
         WantedItem wantedItem = wantedItemRepository.findById(wantedItemId)
                 .orElseThrow(() -> new Exception("구매희망상품을 찾을 수 없습니다."));
 
-        // 조회수 증가
-        wantedItem.incrementViewCount();
-        wantedItemRepository.save(wantedItem);
+        // 조회수 증가 (ViewCountAggregator가 주기적으로 DB에 반영)
+        viewCountAggregator.increment(ViewCountAggregator.Target.WANTED_ITEM, wantedItemId);
+        wantedItem.setViewCount(viewCountAggregator.currentViewCount(
+                ViewCountAggregator.Target.WANTED_ITEM, wantedItemId, wantedItem.getViewCount()));
 
         return wantedItem;
     }
@@ -119,6 +134,16 @@ public class WantedItemService {
         return wantedItemRepository.findByWantedStatusOrderByCreatedAtDesc(WantedStatus.ACTIVE, pageable);
     }
 
+    /**
+     * 구매희망 조건(카테고리, 지역, 최대 희망가격 이하)에 맞는 판매 중 상품 (최신순 limit개)
+     */
+    @Transactional(readOnly = true)
+    public List<Item> getMatchingItems(WantedItem wantedItem, int limit) {
+        return itemRepository.findMatchingItems(wantedItem.getCategory(),
+                WantedItemMatcher.locationKey(wantedItem.getLocation()),
+                wantedItem.getMaxPrice(), ItemSellStatus.SELL, ModerationStatus.VISIBLE, PageRequest.of(0, limit));
+    }
+
     /**
      * 특정 사용자의 구매희망상품 조회
      */
@@ -139,7 +164,9 @@ public class WantedItemService {
         }
 
         wantedItem.setWantedStatus(newStatus);
-        return wantedItemRepository.save(wantedItem);
+        WantedItem savedWantedItem = wantedItemRepository.save(wantedItem);
+        wantedItemMatcher.updateAfterCommit(savedWantedItem);
+        return savedWantedItem;
     }
 
     /**
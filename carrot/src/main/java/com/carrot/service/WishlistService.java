@@ -1,5 +1,6 @@
 package com.carrot.service;
 
+import com.carrot.dto.WishlistToggleResult;
 import com.carrot.entity.Wishlist;
 import com.carrot.entity.User;
 import com.carrot.entity.Item;
@@ -12,8 +13,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @Transactional
@@ -25,42 +26,37 @@ public class WishlistService {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    private ItemDetailCache itemDetailCache;
+
     /**
      * 찜하기 / 찜 취소 토글
+     * - 찜 추가는 조건부 INSERT 한 문장, 이미 찜했으면 DELETE 한 문장
+     * - 찜 개수는 SQL 증감으로 반영하므로 동시에 여러 명이 찜해도 값이 유실되지 않음
      */
-    public boolean toggleWishlist(Long itemId, User user) throws Exception {
-        // 상품 조회
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new Exception("상품을 찾을 수 없습니다."));
+    public WishlistToggleResult toggleWishlist(Long itemId, User user) throws Exception {
+        Long userId = user.getId();
 
-        // 자신의 상품은 찜할 수 없음
-        if (item.getSeller().getId().equals(user.getId())) {
-            throw new Exception("자신의 상품은 찜할 수 없습니다.");
+        // 찜하지 않은 상품이면 찜하기 (상품 존재 / 본인 상품 여부도 같은 문장에서 확인)
+        if (wishlistRepository.insertIfAbsent(userId, itemId, LocalDateTime.now()) == 1) {
+            return new WishlistToggleResult(true, applyWishCountDelta(itemId, 1));
         }
 
-        // 기존 찜 정보 조회
-        Optional<Wishlist> existingWishlist = wishlistRepository.findByUserAndItem(user, item);
-
-        if (existingWishlist.isPresent()) {
-            // 이미 찜한 상품이면 찜 취소
-            wishlistRepository.delete(existingWishlist.get());
-
-            // 상품의 찜 개수 감소
-            item.decrementWishCount();
-            itemRepository.save(item);
-
-            return false; // 찜 취소됨
-        } else {
-            // 찜하지 않은 상품이면 찜하기
-            Wishlist wishlist = new Wishlist(user, item);
-            wishlistRepository.save(wishlist);
-
-            // 상품의 찜 개수 증가
-            item.incrementWishCount();
-            itemRepository.save(item);
+        // 이미 찜한 상품이면 찜 취소
+        if (wishlistRepository.deleteByUserIdAndItemId(userId, itemId) == 1) {
+            return new WishlistToggleResult(false, applyWishCountDelta(itemId, -1));
+        }
 
-            return true; // 찜 추가됨
+        // 추가도 삭제도 안 된 경우: 상품이 없거나 자신의 상품
+        Long sellerId = itemRepository.findSellerIdById(itemId)
+                .orElseThrow(() -> new Exception("상품을 찾을 수 없습니다."));
+        if (sellerId.equals(userId)) {
+            throw new Exception("자신의 상품은 찜할 수 없습니다.");
         }
+        throw new Exception("잠시 후 다시 시도해주세요.");
     }
 
     /**
@@ -165,19 +161,45 @@ public class WishlistService {
      * 찜 목록에서 특정 상품 제거
      */
     public void removeFromWishlist(Long itemId, User user) throws Exception {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new Exception("상품을 찾을 수 없습니다."));
+        if (wishlistRepository.deleteByUserIdAndItemId(user.getId(), itemId) == 1) {
+            // 상품의 찜 개수 감소
+            applyWishCountDelta(itemId, -1);
+            return;
+        }
 
-        Optional<Wishlist> wishlist = wishlistRepository.findByUserAndItem(user, item);
-        if (wishlist.isPresent()) {
-            wishlistRepository.delete(wishlist.get());
+        if (!itemRepository.existsById(itemId)) {
+            throw new Exception("상품을 찾을 수 없습니다.");
+        }
+        throw new Exception("찜하지 않은 상품입니다.");
+    }
 
-            // 상품의 찜 개수 감소
-            item.decrementWishCount();
-            itemRepository.save(item);
-        } else {
-            throw new Exception("찜하지 않은 상품입니다.");
+    /**
+     * 찜 목록 일괄 삭제
+     * - 상품별 찜 개수 감소는 UPDATE 한 문장, 찜 삭제는 DELETE 한 문장 (찜 개수와 무관하게 고정)
+     *
+     * @param category 카테고리 (null 또는 "all"이면 전체)
+     * @return 삭제된 찜 개수
+     */
+    public int clearWishlist(User user, String category) {
+        Long userId = user.getId();
+        String categoryFilter = (category == null || category.equals("all")) ? null : category;
+
+        // 검색 색인의 찜 개수 갱신용
+        List<Long> itemIds = wishlistRepository.findItemIdsByUserIdAndCategory(userId, categoryFilter);
+        if (itemIds.isEmpty()) {
+            return 0;
         }
+
+        // 찜 행을 지우기 전에 찜 개수부터 감소 (서브쿼리가 찜 행을 참조)
+        itemRepository.decrementWishCountsWishedBy(userId, categoryFilter);
+        int deleted = wishlistRepository.deleteAllByUserIdAndCategory(userId, categoryFilter);
+
+        for (Object[] row : itemRepository.findWishCountsByIdIn(itemIds)) {
+            itemSearchIndex.updateWishCountAfterCommit((Long) row[0], (Integer) row[1]);
+        }
+        itemDetailCache.invalidateAll(itemIds);
+
+        return deleted;
     }
 
     /**
@@ -187,4 +209,15 @@ public class WishlistService {
     public List<Object[]> getItemWishStatistics() {
         return wishlistRepository.findItemWishStatistics();
     }
-}
\ No newline at end of file
+
+    /**
+     * 상품의 찜 개수를 원자적으로 증감하고 변경된 값을 반환
+     */
+    private int applyWishCountDelta(Long itemId, int delta) {
+        itemRepository.addWishCount(itemId, delta);
+        int wishCount = itemRepository.findWishCountById(itemId).orElse(0);
+        itemSearchIndex.updateWishCountAfterCommit(itemId, wishCount);
+        itemDetailCache.invalidate(itemId);
+        return wishCount;
+    }
+}
@@ -0,0 +1,84 @@
+package com.carrot.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConcurrencyLimitedDataSource의 단위 테스트
+ * - 허가 수 제한, close 시 한 번만 반환, 대기 시간 초과, 획득 실패 시 반환 테스트
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @Test
+    @DisplayName("허가 수만큼 쥐고 있으면 다음 요청은 대기 시간 초과")
+    void getConnection_AllInUse_TimesOut() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getStats()).containsEntry("inUse", 2).containsEntry("timedOut", 1L);
+    }
+
+    @Test
+    @DisplayName("close는 원래 커넥션을 닫고 허가를 한 번만 반환")
+    void close_ReleasesOnce() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        Connection limited = dataSource.getConnection();
+        limited.close();
+        limited.close();
+
+        verify(connection, times(2)).close();
+        assertThat(dataSource.getStats()).containsEntry("inUse", 0);
+        dataSource.getConnection();
+        assertThat(dataSource.getStats()).containsEntry("inUse", 1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 커넥션이 닫히면 이어서 획득")
+    void getConnection_WaitsForRelease() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 5_000);
+        Connection first = dataSource.getConnection();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            try (Connection ignored = dataSource.getConnection()) {
+                acquired.countDown();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(acquired.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        first.close();
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("원래 DataSource에서 커넥션을 못 받으면 허가 반환")
+    void getConnection_TargetFails_Releases() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool timeout");
+        assertThat(dataSource.getStats()).containsEntry("inUse", 0).containsEntry("timedOut", 0L);
+    }
+}
@@ -0,0 +1,236 @@
+package com.carrot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReadWriteRoutingDataSource의 단위 테스트 (내장 H2 두 개를 주 DB / 복제본으로 사용)
+ * - 읽기 전용 트랜잭션 분리, 복제 지연/장애 시 주 DB 대체, 쓰기(데이터 변경) 후 주 DB 읽기, 커넥션 재사용 시 전환 테스트
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long STICKY_WINDOW_MS = 200;
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReadWriteRoutingDataSource routing;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("rw-primary");
+        replica = h2("rw-replica");
+        // 각 DB에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 확인
+        for (DriverManagerDataSource dataSource : List.of(primary, replica)) {
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            template.execute("CREATE TABLE db_name (name VARCHAR(20))");
+            template.update("INSERT INTO db_name VALUES (?)", dataSource == primary ? "primary" : "replica");
+        }
+        routing = routing(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 지연 없는 복제본, 쓰기와 트랜잭션 밖 조회는 주 DB")
+    void route_ReadOnlyToReplica() {
+        replicateHeartbeat();
+
+        assertThat(readOnlyDbName()).isEqualTo("replica");
+        assertThat(writeDbName()).isEqualTo("primary");
+        assertThat(dbName()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 DB에서 읽음")
+    void route_LaggingReplica_FallsBackToPrimary() {
+        replicateHeartbeat();
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_at = ?", System.currentTimeMillis() - 10_000);
+        routing.checkReplicas();
+
+        assertThat(readOnlyDbName()).isEqualTo("primary");
+        assertThat(routing.getStats()).containsEntry("fallbackReads", 1L);
+    }
+
+    @Test
+    @DisplayName("복제본 연결이 안 되면 바로 주 DB에서 읽고 복제본을 뺌")
+    void route_ReplicaDown_FallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection())
+                .thenAnswer(invocation -> replica.getConnection())
+                .thenAnswer(invocation -> replica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("connection refused"));
+        routing = routing(broken);
+        replicateHeartbeat();
+
+        assertThat(readOnlyDbName()).isEqualTo("primary");
+        assertThat(readOnlyDbName()).isEqualTo("primary");
+        verify(broken, times(3)).getConnection();   // 지연 확인 2회 + 읽기 실패 1회, 이후에는 시도하지 않음
+        assertThat(routing.getStats()).containsEntry("fallbackReads", 2L);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 커밋 후 잠시 같은 스레드의 읽기는 주 DB")
+    void route_AfterWrite_StickyToPrimary() throws InterruptedException {
+        replicateHeartbeat();
+
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE db_name SET name = 'primary'"));
+        assertThat(readOnlyDbName()).isEqualTo("primary");
+
+        Thread.sleep(STICKY_WINDOW_MS + 50);
+        assertThat(readOnlyDbName()).isEqualTo("replica");
+        assertThat(routing.getStats()).containsEntry("writes", 1L).containsEntry("stickyReads", 1L);
+    }
+
+    @Test
+    @DisplayName("쓰기 후 같은 세션의 다음 요청(다른 스레드)도 주 DB에서 읽음")
+    void route_AfterWrite_StickyAcrossRequestsInSession() {
+        replicateHeartbeat();
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest writeRequest = new MockHttpServletRequest();
+        writeRequest.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writeRequest));
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE db_name SET name = 'primary'"));
+
+        assertThat(readInRequest(session)).isEqualTo("primary");
+        assertThat(readInRequest(new MockHttpSession())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("요청 스레드를 재사용해도 쓰기 후 읽기 고정이 다른 세션의 요청에 남지 않음")
+    void route_AfterWrite_NotStickyForNextRequestOnSameThread() {
+        replicateHeartbeat();
+        MockHttpServletRequest writeRequest = new MockHttpServletRequest();
+        writeRequest.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(writeRequest));
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE db_name SET name = 'primary'"));
+        RequestContextHolder.resetRequestAttributes();
+
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(nextRequest));
+        assertThat(readOnlyDbName()).isEqualTo("replica");
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(readOnlyDbName()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 표시가 없어도 조회만 한 트랜잭션은 주 DB 고정도, 세션 생성도 하지 않음")
+    void route_ReadOnlyWorkInWriteTransaction_NotSticky() {
+        replicateHeartbeat();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(writeDbName()).isEqualTo("primary");
+        assertThat(readOnlyDbName()).isEqualTo("replica");
+        assertThat(request.getSession(false)).isNull();
+        assertThat(routing.getStats()).containsEntry("writes", 0L).containsEntry("stickyReads", 0L);
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 계속 써도(open-in-view) 트랜잭션 밖에서 읽기 전용 여부가 바뀌면 다시 고름")
+    void connection_SwitchesBetweenTransactions() throws SQLException {
+        replicateHeartbeat();
+
+        try (Connection connection = routing.getConnection()) {
+            connection.setReadOnly(true);
+            assertThat(dbName(connection)).isEqualTo("replica");
+
+            connection.setReadOnly(false);
+            connection.setAutoCommit(false);
+            assertThat(dbName(connection)).isEqualTo("primary");
+
+            // 트랜잭션 중에는 바꾸지 않음
+            connection.setReadOnly(true);
+            assertThat(dbName(connection)).isEqualTo("primary");
+            connection.rollback();
+        }
+    }
+
+    private ReadWriteRoutingDataSource routing(DataSource replicaDataSource) {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary,
+                List.of(new ReadWriteRoutingDataSource.Replica("replica-1", replicaDataSource)), STICKY_WINDOW_MS, 3000);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+        jdbc = new JdbcTemplate(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * 주 DB에 heartbeat를 쓰고 복제본에 그대로 복사한 뒤 지연 확인 (복제가 따라잡은 상태)
+     */
+    private void replicateHeartbeat() {
+        routing.checkReplicas();
+        Long beatAt = new JdbcTemplate(primary).queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        replicaJdbc.update("MERGE INTO replica_heartbeat KEY (id) VALUES (1, ?)", beatAt);
+        routing.checkReplicas();
+    }
+
+    private String readInRequest(MockHttpSession session) {
+        return CompletableFuture.supplyAsync(() -> {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setSession(session);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                return readOnlyDbName();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }).join();
+    }
+
+    private String readOnlyDbName() {
+        return readOnlyTx.execute(status -> dbName());
+    }
+
+    private String writeDbName() {
+        return writeTx.execute(status -> dbName());
+    }
+
+    private String dbName() {
+        return jdbc.queryForObject("SELECT name FROM db_name", String.class);
+    }
+
+    private static String dbName(Connection connection) throws SQLException {
+        try (ResultSet rs = connection.createStatement().executeQuery("SELECT name FROM db_name")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
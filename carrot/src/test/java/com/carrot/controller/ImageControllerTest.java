@@ -0,0 +1,121 @@
+package com.carrot.controller;
+
+import com.carrot.dto.ImageResource;
+import com.carrot.service.ImageFileCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ImageController의 단위 테스트
+ * - 캐시 헤더, 조건부 요청(304), Range(206/416) 테스트
+ */
+class ImageControllerTest {
+
+    private static final String HASHED = "ab/cd/" + "ab".repeat(32) + ".jpg";
+    private static final String ETAG = "\"" + "ab".repeat(32) + "\"";
+
+    @TempDir
+    Path dir;
+
+    private final ImageFileCache imageFileCache = mock(ImageFileCache.class);
+    private final ImageController controller = new ImageController();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(controller, "imageFileCache", imageFileCache);
+        ReflectionTestUtils.setField(controller, "cacheMaxAge", 3600L);
+        ReflectionTestUtils.setField(controller, "sendfileMinBytes", 49152L);
+
+        Path file = Files.writeString(dir.resolve("image.jpg"), "0123456789");
+        when(imageFileCache.find(HASHED)).thenReturn(
+                new ImageResource(file, null, 10, 1_700_000_000_000L, ETAG, "image/jpeg", true));
+        when(imageFileCache.find("books.jpg")).thenReturn(
+                new ImageResource(null, "static".getBytes(StandardCharsets.UTF_8), 6, 1_700_000_000_000L,
+                        "\"6-1\"", "image/jpeg", false));
+    }
+
+    @Test
+    @DisplayName("내용 주소 이미지는 immutable 캐시 + 강한 ETag")
+    void serve_ContentAddressed_Immutable() throws Exception {
+        MockHttpServletResponse response = serve(request(HASHED));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("그 외 이미지는 max-age 후 재검증, ETag가 같으면 304")
+    void serve_IfNoneMatch_NotModified() throws Exception {
+        MockHttpServletResponse first = serve(request("books.jpg"));
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("public, max-age=3600");
+        assertThat(first.getContentAsString()).isEqualTo("static");
+
+        MockHttpServletRequest revalidate = request("books.jpg");
+        revalidate.addHeader("If-None-Match", "\"6-1\"");
+        MockHttpServletResponse second = serve(revalidate);
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 + 해당 구간만 전송, 범위 밖이면 416")
+    void serve_Range() throws Exception {
+        MockHttpServletRequest partial = request(HASHED);
+        partial.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = serve(partial);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+
+        MockHttpServletRequest outOfRange = request(HASHED);
+        outOfRange.addHeader("Range", "bytes=20-");
+        assertThat(serve(outOfRange).getStatus()).isEqualTo(416);
+    }
+
+    @Test
+    @DisplayName("Range 해석 - 단일 구간만 적용, 여러 구간/잘못된 형식은 전체 전송")
+    void parseRange() {
+        assertThat(ImageController.parseRange("bytes=0-", 10)).containsExactly(0, 9);
+        assertThat(ImageController.parseRange("bytes=-3", 10)).containsExactly(7, 9);
+        assertThat(ImageController.parseRange("bytes=5-100", 10)).containsExactly(5, 9);
+        assertThat(ImageController.parseRange("bytes=10-", 10)).isEmpty();
+        assertThat(ImageController.parseRange("bytes=0-1,3-4", 10)).isNull();
+        assertThat(ImageController.parseRange("bytes=5-2", 10)).isNull();
+        assertThat(ImageController.parseRange("items=0-1", 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("없는 이미지는 404")
+    void serve_Missing_NotFound() throws Exception {
+        assertThat(serve(request("missing.jpg")).getStatus()).isEqualTo(404);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + path);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "/images/" + path);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serveImage(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,148 @@
+package com.carrot.repository;
+
+import com.carrot.constant.ItemSellStatus;
+import com.carrot.constant.ModerationStatus;
+import com.carrot.constant.WantedStatus;
+import com.carrot.entity.Item;
+import com.carrot.entity.User;
+import com.carrot.entity.WantedItem;
+import com.carrot.support.QueryCountInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 목록 조회 쿼리의 연관 엔티티 조회 테스트
+ * - 목록 화면은 상품마다 판매자(구매자) 이름을 출력하므로, 목록 쿼리에서 함께 가져와야 함
+ * - 목록을 읽고 판매자 이름까지 접근했을 때 실행된 SQL 수로 N+1 여부 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.carrot.support.QueryCountInspector",
+        "spring.jpa.show-sql=false"
+})
+class ListQueryFetchTest {
+
+    private static final int SELLER_COUNT = 5;
+    private static final int ITEMS_PER_SELLER = 4;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private WantedItemRepository wantedItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> itemIds;
+
+    @BeforeEach
+    void setUp() {
+        for (int s = 0; s < SELLER_COUNT; s++) {
+            User user = new User("user" + s, "password", "사용자" + s, "user" + s + "@test.com",
+                    "010-0000-000" + s, "USER", true);
+            entityManager.persist(user);
+            for (int i = 0; i < ITEMS_PER_SELLER; i++) {
+                entityManager.persist(new Item("상품 " + s + "-" + i, "상품 설명입니다", 10000, "electronics", "서울", user));
+                entityManager.persist(new WantedItem("구해요 " + s + "-" + i, "원하는 상품 설명", 10000, "electronics", "서울", user));
+            }
+        }
+        entityManager.flush();
+        itemIds = itemRepository.findAll().stream().map(Item::getId).toList();
+        entityManager.clear();
+        QueryCountInspector.reset();
+    }
+
+    @Test
+    @DisplayName("상품 목록(페이징): 목록 + 개수 쿼리 2번")
+    void visibleItemsPage_FetchesSellers() {
+        Page<Item> page = itemRepository.findByModerationStatusOrderByCreatedAtDesc(
+                ModerationStatus.VISIBLE, PageRequest.of(0, 10));
+
+        touchSellers(page.getContent());
+        assertThat(page.getTotalElements()).isEqualTo(SELLER_COUNT * ITEMS_PER_SELLER);
+        assertThat(QueryCountInspector.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카테고리 목록: 쿼리 1번")
+    void categoryItems_FetchesSellers() {
+        List<Item> items = itemRepository.findByCategoryAndModerationStatusOrderByCreatedAtDesc(
+                "electronics", ModerationStatus.VISIBLE);
+
+        touchSellers(items);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과: 쿼리 1번")
+    void searchItems_FetchesSellers() {
+        List<Item> items = itemRepository.searchItems("상품", null, ModerationStatus.VISIBLE,
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        touchSellers(items);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관리자 상품 목록: 쿼리 1번")
+    void adminItems_FetchesSellers() {
+        List<Item> items = itemRepository.findAllByOrderByCreatedAtDesc();
+
+        touchSellers(items);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인에서 얻은 ID 목록 조회: 쿼리 1번")
+    void itemsByIds_FetchesSellers() {
+        List<Item> items = itemRepository.findAllWithSellerByIdIn(itemIds);
+
+        touchSellers(items);
+        assertThat(items).hasSize(itemIds.size());
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구매희망 매칭 상품: 쿼리 1번, 지역은 앞뒤 공백 무시")
+    void matchingItems_FetchesSellers() {
+        Item padded = itemRepository.findById(itemIds.get(0)).orElseThrow();
+        padded.setLocation(" 서울 ");
+        entityManager.flush();
+        entityManager.clear();
+        QueryCountInspector.reset();
+
+        List<Item> items = itemRepository.findMatchingItems("electronics", "서울", 10000,
+                ItemSellStatus.SELL, ModerationStatus.VISIBLE, PageRequest.of(0, 50));
+
+        touchSellers(items);
+        assertThat(items).hasSize(SELLER_COUNT * ITEMS_PER_SELLER);
+        assertThat(QueryCountInspector.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구해요 목록(페이징): 목록 + 개수 쿼리 2번")
+    void wantedItemsPage_FetchesBuyers() {
+        Page<WantedItem> page = wantedItemRepository.findByWantedStatusOrderByCreatedAtDesc(
+                WantedStatus.ACTIVE, PageRequest.of(0, 10));
+
+        page.getContent().forEach(wantedItem -> assertThat(wantedItem.getBuyer().getName()).isNotNull());
+        assertThat(QueryCountInspector.count()).isEqualTo(2);
+    }
+
+    private void touchSellers(List<Item> items) {
+        assertThat(items).isNotEmpty();
+        items.forEach(item -> assertThat(item.getSeller().getName()).isNotNull());
+    }
+}
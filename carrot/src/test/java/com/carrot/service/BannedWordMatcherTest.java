@@ -0,0 +1,67 @@
+package com.carrot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BannedWordMatcher의 단위 테스트
+ * - 다중 금지어 매칭, 자모/공백 우회 감지, 음절 경계 오탐 방지 테스트
+ */
+class BannedWordMatcherTest {
+
+    private final BannedWordMatcher matcher = new BannedWordMatcher(ModerationEngine.DEFAULT_WORDS);
+
+    @Test
+    @DisplayName("여러 금지어를 한 번에 찾기 - 등록 순서로 반환")
+    void findAll_MultipleWords_ReturnsInRegistrationOrder() {
+        assertThat(matcher.findAll("이것은 가짜이고 사기 상품입니다")).containsExactly("사기", "가짜");
+        assertThat(matcher.findAll("좋은 상품입니다")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백/기호를 끼워 넣은 우회 - 감지")
+    void containsAny_WhitespaceInsertion_Detected() {
+        assertThat(matcher.containsAny("사 기 아닙니다")).isTrue();
+        assertThat(matcher.containsAny("가.짜 명품")).isTrue();
+    }
+
+    @Test
+    @DisplayName("자모로 풀어 쓴 우회 - 감지")
+    void containsAny_JamoSpelling_Detected() {
+        assertThat(matcher.containsAny("ㅅㅏㄱㅣ 조심")).isTrue();
+        assertThat(matcher.containsAny("도ㄷㅜㄱ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("음절 경계가 맞지 않는 자모 매칭 - 무시")
+    void containsAny_MisalignedJamo_NotDetected() {
+        // "도두기"를 자모로 풀면 ㄷㅗㄷㅜㄱㅣ 로 "도둑"(ㄷㅗㄷㅜㄱ)을 포함하지만 음절 경계가 다름
+        assertThat(matcher.containsAny("도두기")).isFalse();
+        assertThat(matcher.containsAny("도둑놈")).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹치는 금지어와 대소문자 - 모두 감지")
+    void findAll_OverlappingAndCaseInsensitive() {
+        BannedWordMatcher overlapping = new BannedWordMatcher(List.of("he", "she", "hers", "SCAM"));
+        assertThat(overlapping.findAll("usher scam")).containsExactly("he", "she", "hers", "SCAM");
+    }
+
+    @Test
+    @DisplayName("금지어 수만 명 규모 - 생성 및 검색")
+    void largeWordList() {
+        List<String> words = new ArrayList<>(ModerationEngine.DEFAULT_WORDS);
+        for (int i = 0; i < 20000; i++) {
+            words.add("금지" + i + "어");
+        }
+        BannedWordMatcher large = new BannedWordMatcher(words);
+
+        assertThat(large.size()).isEqualTo(20005);
+        assertThat(large.findAll("이 글에는 금지1234어 와 사기 가 있습니다")).containsExactly("사기", "금지1234어");
+    }
+}
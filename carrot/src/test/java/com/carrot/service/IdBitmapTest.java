@@ -0,0 +1,87 @@
+package com.carrot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdBitmap의 단위 테스트
+ * - 배열/비트맵 구간 전환, 교집합, 최신순(큰 ID부터) 페이지 테스트
+ */
+class IdBitmapTest {
+
+    @Test
+    @DisplayName("추가/제거/포함 여부")
+    void addRemoveContains() {
+        IdBitmap bitmap = new IdBitmap();
+        bitmap.add(1);
+        bitmap.add(70000);
+        bitmap.add(1);
+
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+        assertThat(bitmap.contains(70000)).isTrue();
+
+        bitmap.remove(70000);
+        assertThat(bitmap.contains(70000)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 ID부터 건너뛰고 잘라서 반환")
+    void descending_SkipsAndLimits() {
+        IdBitmap bitmap = new IdBitmap();
+        for (long id = 1; id <= 10; id++) {
+            bitmap.add(id);
+        }
+        bitmap.add(200000);
+
+        assertThat(bitmap.descending(0, 3)).containsExactly(200000L, 10L, 9L);
+        assertThat(bitmap.descending(2, 3)).containsExactly(9L, 8L, 7L);
+        assertThat(bitmap.descending(10, 5)).containsExactly(1L);
+        assertThat(bitmap.descending(11, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빽빽한 구간(비트맵)과 드문 구간(배열)을 섞어도 TreeSet과 결과 동일")
+    void and_MatchesTreeSetAcrossContainerTypes() {
+        Random random = new Random(42);
+        IdBitmap dense = new IdBitmap();
+        IdBitmap sparse = new IdBitmap();
+        TreeSet<Long> denseSet = new TreeSet<>();
+        TreeSet<Long> sparseSet = new TreeSet<>();
+
+        for (int i = 0; i < 20000; i++) {
+            long id = random.nextInt(30000);       // 한 구간에 4096개 초과 → 비트맵
+            dense.add(id);
+            denseSet.add(id);
+        }
+        for (int i = 0; i < 500; i++) {
+            long id = random.nextInt(200000);      // 여러 구간에 드문드문 → 배열
+            sparse.add(id);
+            sparseSet.add(id);
+        }
+        // 일부 제거해서 비트맵 → 배열 전환도 확인
+        for (long id = 0; id < 30000; id += 2) {
+            dense.remove(id);
+            denseSet.remove(id);
+        }
+
+        TreeSet<Long> expected = new TreeSet<>(denseSet);
+        expected.retainAll(sparseSet);
+
+        assertThat(dense.cardinality()).isEqualTo(denseSet.size());
+        assertThat(dense.andCardinality(sparse)).isEqualTo(expected.size());
+        assertThat(sparse.andCardinality(dense)).isEqualTo(expected.size());
+
+        List<Long> expectedDescending = new ArrayList<>(expected.descendingSet());
+        assertThat(dense.and(sparse).descending(0, Integer.MAX_VALUE)).isEqualTo(expectedDescending);
+        assertThat(dense.descending(0, 5)).containsExactlyElementsOf(
+                denseSet.descendingSet().stream().limit(5).toList());
+    }
+}
@@ -0,0 +1,155 @@
+package com.carrot.service;
+
+import com.carrot.constant.ImageFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageStorageService의 단위 테스트
+ * - 매직 바이트 형식 판별, 썸네일/중간 크기 이미지 생성, 내용 주소 중복 제거, 정리 삭제 테스트
+ */
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageStorageService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ImageStorageService(uploadDir, 300, 1024);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("매직 바이트로 형식 판별 - Content-Type과 무관")
+    void detect_MagicBytes() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        byte[] gif = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+        byte[] text = "<html>".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(ImageFormat.detect(png, png.length)).isEqualTo(ImageFormat.PNG);
+        assertThat(ImageFormat.detect(gif, gif.length)).isEqualTo(ImageFormat.GIF);
+        assertThat(ImageFormat.detect(text, text.length)).isNull();
+        assertThat(ImageFormat.detect(png, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 image/* Content-Type이어도 거부")
+    void store_NotAnImage_Rejected() {
+        MockMultipartFile file = new MockMultipartFile("file", "fake.jpg", "image/jpeg",
+                "<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> service.store(file)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(uploadDir).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("저장 후 썸네일(정사각형)과 중간 크기 이미지 생성")
+    void store_GeneratesVariants() throws Exception {
+        // 확장자/Content-Type이 틀려도 실제 형식(PNG)으로 저장
+        MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", png(2000, 1000));
+
+        String filename = service.store(file);
+        service.stop();
+
+        assertThat(filename).endsWith(".png");
+        String base = filename.substring(0, filename.lastIndexOf('.'));
+        BufferedImage thumb = ImageIO.read(uploadDir.resolve(base + "_thumb.jpg").toFile());
+        BufferedImage medium = ImageIO.read(uploadDir.resolve(base + "_medium.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(300);
+        assertThat(thumb.getHeight()).isEqualTo(300);
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(512);
+
+        String url = ImageStorageService.URL_PREFIX + filename;
+        assertThat(service.thumbnailUrl(url)).isEqualTo("/images/" + base + "_thumb.jpg");
+        assertThat(service.mediumUrl(url)).isEqualTo("/images/" + base + "_medium.jpg");
+    }
+
+    @Test
+    @DisplayName("변환 이미지가 없으면 원본 주소 그대로 사용")
+    void thumbnailUrl_NotReady_ReturnsOriginal() {
+        assertThat(service.thumbnailUrl("/images/iphone.jpg")).isEqualTo("/images/iphone.jpg");
+        assertThat(service.thumbnailUrl(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 한 번만 저장 - 해시 앞자리로 폴더 분산")
+    void store_SameContent_Deduplicated() throws Exception {
+        byte[] content = png(400, 400);
+
+        String first = service.store(new MockMultipartFile("file", "a.png", "image/png", content));
+        String second = service.store(new MockMultipartFile("file", "b.png", "image/png", content));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first).matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.png");
+        assertThat(first.substring(6)).startsWith(first.substring(0, 2) + first.substring(3, 5));
+        try (Stream<Path> files = Files.list(uploadDir.resolve(first).getParent())) {
+            assertThat(files.filter(path -> path.toString().endsWith(".png"))).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("사용 해제해도 공유 파일은 남기고, 유예 기간이 지난 파일만 변환 이미지와 함께 삭제")
+    void deleteIfStale_RemovesVariants_AfterGrace() throws Exception {
+        String path = service.store(new MockMultipartFile("file", "a.png", "image/png", png(400, 400)));
+        service.stop();
+        String url = ImageStorageService.URL_PREFIX + path;
+        String filename = path.substring(path.lastIndexOf('/') + 1);
+
+        assertThat(service.delete(filename)).isTrue();
+        assertThat(uploadDir.resolve(path)).exists();
+
+        // 방금 업로드된 파일은 유예 기간 안이므로 정리 대상 아님
+        Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
+        try (Stream<String> stale = service.staleImageUrls(oneHourAgo)) {
+            assertThat(stale).isEmpty();
+        }
+        assertThat(service.deleteIfStale(url, oneHourAgo)).isFalse();
+
+        Instant later = Instant.now().plus(1, ChronoUnit.HOURS);
+        try (Stream<String> stale = service.staleImageUrls(later)) {
+            assertThat(stale).containsExactly(url);
+        }
+        assertThat(service.deleteIfStale(url, later)).isTrue();
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+        assertThat(service.thumbnailUrl(url)).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("업로드 폴더 밖 경로 삭제 거부")
+    void delete_Traversal_Rejected() {
+        assertThatThrownBy(() -> service.delete("../secret.txt")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,153 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.entity.Item;
+import com.carrot.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ItemDetailCache의 단위 테스트
+ * - 적중/미적중, 크기 제한, 만료, 제거, 공유 캐시 계층 테스트
+ */
+class ItemDetailCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, ItemDetailSnapshot> loader = id -> {
+        loads.incrementAndGet();
+        return id > 0 ? snapshot(id, "상품 " + id) : null;
+    };
+
+    @Test
+    @DisplayName("두 번째 조회부터 로컬 캐시 적중")
+    void get_SecondCall_HitsLocalTier() {
+        ItemDetailCache cache = new ItemDetailCache(10, 60_000, 60_000, null);
+
+        cache.get(1L, loader);
+        ItemDetailSnapshot cached = cache.get(1L, loader);
+
+        assertThat(cached.getTitle()).isEqualTo("상품 1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getStats()).containsEntry("localHits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않음")
+    void get_MissingItem_NotCached() {
+        ItemDetailCache cache = new ItemDetailCache(10, 60_000, 60_000, null);
+
+        assertThat(cache.get(-1L, loader)).isNull();
+        assertThat(cache.get(-1L, loader)).isNull();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 건수 초과 시 가장 오래 안 쓴 항목 제거")
+    void get_OverMaxSize_EvictsLeastRecentlyUsed() {
+        ItemDetailCache cache = new ItemDetailCache(2, 60_000, 60_000, null);
+
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(1L, loader);   // 1번을 최근 사용으로
+        cache.get(3L, loader);   // 2번 제거
+
+        loads.set(0);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 다시 조회")
+    void get_Expired_Reloads() throws InterruptedException {
+        ItemDetailCache cache = new ItemDetailCache(10, 1, 60_000, null);
+
+        cache.get(1L, loader);
+        Thread.sleep(5);
+        cache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제거 후 다시 조회하면 새 값 적재")
+    void invalidate_ThenGet_Reloads() {
+        ItemDetailCache cache = new ItemDetailCache(10, 60_000, 60_000, null);
+
+        cache.get(1L, loader);
+        cache.invalidate(1L);
+        cache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 제거된 경우 옛 값을 캐시에 넣지 않음")
+    void invalidate_DuringLoad_DoesNotCacheStaleValue() {
+        ItemDetailCache cache = new ItemDetailCache(10, 60_000, 60_000, null);
+
+        cache.get(1L, id -> {
+            cache.invalidate(id);   // DB를 읽는 사이에 수정 커밋
+            return snapshot(id, "수정 전");
+        });
+        ItemDetailSnapshot reloaded = cache.get(1L, id -> snapshot(id, "수정 후"));
+
+        assertThat(reloaded.getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("공유 캐시에 있으면 다른 노드에서도 DB 조회 없음")
+    void get_SharedTier_ServesOtherNodes() {
+        InMemoryItemDetailSharedCache shared = new InMemoryItemDetailSharedCache();
+        ItemDetailCache nodeA = new ItemDetailCache(10, 60_000, 60_000, shared);
+        ItemDetailCache nodeB = new ItemDetailCache(10, 60_000, 60_000, shared);
+
+        nodeA.get(1L, loader);
+        ItemDetailSnapshot fromShared = nodeB.get(1L, loader);
+
+        assertThat(fromShared.getTitle()).isEqualTo("상품 1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(nodeB.getStats()).containsEntry("sharedHits", 1L);
+
+        nodeA.invalidate(1L);
+        assertThat(shared.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("공유 캐시 저장과 제거가 겹치면 옛 값을 공유 캐시에 남기지 않음")
+    void invalidate_DuringSharedPut_DoesNotLeaveStaleValue() {
+        ItemDetailCache[] node = new ItemDetailCache[1];
+        InMemoryItemDetailSharedCache shared = new InMemoryItemDetailSharedCache() {
+            @Override
+            public void put(Long itemId, ItemDetailSnapshot snapshot, Duration ttl) {
+                node[0].invalidate(itemId);   // 세대 확인 직후 수정 커밋, 제거가 저장보다 먼저 끝남
+                super.put(itemId, snapshot, ttl);
+            }
+        };
+        node[0] = new ItemDetailCache(10, 60_000, 60_000, shared);
+
+        node[0].get(1L, loader);
+
+        assertThat(shared.get(1L)).isNull();
+    }
+
+    private static ItemDetailSnapshot snapshot(Long id, String title) {
+        User seller = new User();
+        seller.setId(100L);
+        seller.setUsername("seller");
+        seller.setName("판매자");
+
+        Item item = new Item(title, "상품 설명입니다", 10000, "misc", "서울", seller);
+        item.setId(id);
+        item.setCreatedAt(LocalDateTime.now());
+        return new ItemDetailSnapshot(item);
+    }
+}
@@ -0,0 +1,102 @@
+package com.carrot.service;
+
+import com.carrot.constant.ItemSellStatus;
+import com.carrot.dto.ItemUpdateEvent;
+import com.carrot.repository.WishlistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ItemEventHub의 단위 테스트
+ * - 구독자 큐의 오래된 것부터 버리기, 전달 대상(찜한 사용자 + 상세 화면 구독자) 테스트
+ */
+class ItemEventHubTest {
+
+    private final WishlistRepository wishlistRepository = mock(WishlistRepository.class);
+    private ItemEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new ItemEventHub();
+        ReflectionTestUtils.setField(hub, "wishlistRepository", wishlistRepository);
+        ReflectionTestUtils.setField(hub, "queueCapacity", 8);
+        ReflectionTestUtils.setField(hub, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(hub, "maxConnectionsPerUser", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 것을 버리고 추가")
+    void offer_Full_DropsOldest() {
+        LongAdder dropped = new LongAdder();
+        ItemEventHub.Subscriber subscriber = new ItemEventHub.Subscriber(1L, null, new SseEmitter(), 2, dropped);
+
+        for (int i = 1; i <= 5; i++) {
+            subscriber.offer(new ItemEventHub.Message(i, "item", "변경 " + i));
+        }
+
+        assertThat(subscriber.pending()).isEqualTo(2);
+        assertThat(dropped.sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("찜한 접속 사용자와 그 상품 상세를 보는 사용자에게만 전달")
+    void fanOut_WishersAndWatchers() throws Exception {
+        when(wishlistRepository.findUserIdsByItemId(10L)).thenReturn(List.of(1L, 4L));
+        hub.subscribe(1L, null);     // 찜한 사용자
+        hub.subscribe(2L, 10L);      // 상세 화면 구독
+        hub.subscribe(3L, 11L);      // 다른 상품
+
+        hub.fanOut(new ItemUpdateEvent(ItemUpdateEvent.Type.PRICE, 10L, ItemSellStatus.SELL, 9000, 10000, true));
+
+        assertThat(awaitDelivered(2)).isEqualTo(2);
+        assertThat(hub.getStats()).containsEntry("connections", 3).containsEntry("users", 3);
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결을 닫음")
+    void subscribe_OverLimit_ClosesOldest() {
+        hub.subscribe(1L, null);
+        hub.subscribe(1L, null);
+        hub.subscribe(1L, 10L);
+
+        assertThat(hub.getStats()).containsEntry("connections", 2).containsEntry("users", 1);
+    }
+
+    @Test
+    @DisplayName("접속자가 없으면 찜한 사용자를 조회하지 않음")
+    void publish_NoSubscribers_SkipsLookup() {
+        hub.publish(new ItemUpdateEvent(ItemUpdateEvent.Type.STATUS, 10L, ItemSellStatus.SOLD_OUT, 9000, null, false));
+
+        verifyNoInteractions(wishlistRepository);
+        assertThat(hub.getStats()).containsEntry("published", 0L);
+    }
+
+    private long awaitDelivered(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        long delivered = 0;
+        while (System.currentTimeMillis() < deadline) {
+            delivered = (Long) hub.getStats().get("delivered");
+            if (delivered >= expected) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);   // 더 전달되지 않는지 확인
+        return (Long) hub.getStats().get("delivered");
+    }
+}
@@ -0,0 +1,108 @@
+package com.carrot.service;
+
+import com.carrot.constant.ModerationStatus;
+import com.carrot.entity.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ItemSearchIndex의 단위 테스트
+ * - 한글 부분 검색, 카테고리 필터, 정렬, 증분 갱신 테스트
+ */
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemSearchIndex();
+        index.index(item(1L, "아이폰 13 Pro 128GB 판매", "상태 좋은 아이폰입니다", 850000, "electronics", 1));
+        index.index(item(2L, "갤럭시 S22 Ultra", "거의 새 제품, 박스 포함", 700000, "electronics", 2));
+        index.index(item(3L, "나이키 에어포스1 280mm", "몇 번 신지 않은 상태입니다", 120000, "clothes", 3));
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 - 성공")
+    void search_HangulPartialKeyword_ReturnsMatches() {
+        assertThat(index.search("이폰", "all", "latest")).containsExactly(1L);
+        assertThat(index.search("상태", "all", "latest")).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("대소문자 무시 검색 - 성공")
+    void search_IgnoresCase() {
+        assertThat(index.search("PRO", "all", "latest")).containsExactly(1L);
+        assertThat(index.search("ultra", "all", "latest")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("n-gram은 모두 있지만 연속되지 않은 경우 - 결과 없음")
+    void search_GramsPresentButNotContiguous_ReturnsEmpty() {
+        // "13", "3 ", " 1", "12" 는 모두 색인되어 있지만 "13 12" 라는 문자열은 없음
+        assertThat(index.search("13 12", "all", "latest")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리 필터와 가격 정렬 - 성공")
+    void search_WithCategoryAndPriceSort() {
+        assertThat(index.search("", "electronics", "price_low")).containsExactly(2L, 1L);
+        assertThat(index.search(null, "all", "price_high")).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("페이지 검색은 전체 정렬 결과의 해당 구간과 같고 전체 건수를 함께 반환")
+    void search_Page_MatchesFullSortWindow() {
+        assertThat(index.search("", "all", "price_low", 0, 2))
+                .isEqualTo(new ItemSearchIndex.SearchPage(List.of(3L, 2L), 3));
+        assertThat(index.search(null, "all", "price_low", 2, 2))
+                .isEqualTo(new ItemSearchIndex.SearchPage(List.of(1L), 3));
+        assertThat(index.search("상태", "all", "latest", 5, 2))
+                .isEqualTo(new ItemSearchIndex.SearchPage(List.of(), 2));
+    }
+
+    @Test
+    @DisplayName("조회수 갱신은 늦게 도착한 이전 값으로 줄어들지 않음")
+    void updateViewCount_OnlyIncreasesViewCount() {
+        index.updateViewCount(1L, 10);
+        index.updateViewCount(2L, 5);
+        index.updateViewCount(1L, 3);   // 늦게 도착한 이전 값
+
+        assertThat(index.search("", "all", "view_count")).containsExactly(1L, 2L, 3L);
+        index.updateViewCount(2L, 11);
+        assertThat(index.search("", "all", "view_count")).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정/블라인드/삭제 시 색인 갱신")
+    void index_IncrementalUpdates() {
+        Item updated = item(2L, "갤럭시 탭 S8", "키보드 커버 세트", 450000, "electronics", 2);
+        index.index(updated);
+        assertThat(index.search("ultra", "all", "latest")).isEmpty();
+        assertThat(index.search("탭", "all", "latest")).containsExactly(2L);
+
+        updated.setModerationStatus(ModerationStatus.BLINDED);
+        index.index(updated);
+        assertThat(index.search("탭", "all", "latest")).isEmpty();
+
+        index.remove(1L);
+        assertThat(index.search("", "all", "latest")).containsExactly(3L);
+    }
+
+    private Item item(Long id, String title, String description, int price, String category, int minutesAgoRank) {
+        Item item = new Item();
+        item.setId(id);
+        item.setTitle(title);
+        item.setDescription(description);
+        item.setPrice(price);
+        item.setCategory(category);
+        item.setLocation("서울");
+        item.setCreatedAt(LocalDateTime.now().minusMinutes(10 - minutesAgoRank));
+        return item;
+    }
+}
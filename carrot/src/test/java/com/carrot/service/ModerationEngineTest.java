@@ -0,0 +1,77 @@
+package com.carrot.service;
+
+import com.carrot.entity.BannedWord;
+import com.carrot.repository.BannedWordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ModerationEngine의 단위 테스트
+ * - 금지어 추가: 기존 단어 일괄 확인, 한 번에 저장, 저장 후 오토마톤 반영
+ */
+class ModerationEngineTest {
+
+    private final BannedWordRepository bannedWordRepository = mock(BannedWordRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private ModerationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ModerationEngine();
+        ReflectionTestUtils.setField(engine, "bannedWordRepository", bannedWordRepository);
+        ReflectionTestUtils.setField(engine, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(engine, "ignoreWhitespace", true);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(bannedWordRepository.findVersion()).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("이미 있는 단어는 IN 조회 한 번으로 거르고 나머지는 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void addWords_SkipsExisting_SavesRestInOneCall() {
+        when(bannedWordRepository.findExistingWords(anyCollection())).thenReturn(List.of("짝퉁"));
+        when(bannedWordRepository.findAllWords()).thenReturn(List.of("짝퉁", "먹튀", "대포폰"));
+
+        int added = engine.addWords(Arrays.asList(" 먹튀 ", "짝퉁", "", null, "대포폰", "먹튀"));
+
+        assertThat(added).isEqualTo(2);
+        ArgumentCaptor<Collection<String>> checked = ArgumentCaptor.forClass(Collection.class);
+        verify(bannedWordRepository).findExistingWords(checked.capture());
+        assertThat(checked.getValue()).containsExactly("먹튀", "짝퉁", "대포폰");
+
+        ArgumentCaptor<List<BannedWord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(bannedWordRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(BannedWord::getWord).containsExactly("먹튀", "대포폰");
+        verify(bannedWordRepository, never()).save(any());
+
+        // 추가 즉시 반영
+        assertThat(engine.current().containsAny("먹튀 계정 아님")).isTrue();
+    }
+
+    @Test
+    @DisplayName("새 단어가 없으면 아무것도 저장하지 않고 다시 로드하지 않음")
+    void addWords_NothingNew_NoSaveNoReload() {
+        when(bannedWordRepository.findExistingWords(anyCollection())).thenReturn(List.of("짝퉁"));
+
+        assertThat(engine.addWords(List.of("짝퉁", " "))).isZero();
+        assertThat(engine.addWords(List.of(" ", ""))).isZero();
+
+        verify(bannedWordRepository, times(1)).findExistingWords(anyCollection());
+        verify(bannedWordRepository).saveAll(List.of());
+        verify(bannedWordRepository, never()).findAllWords();
+    }
+}
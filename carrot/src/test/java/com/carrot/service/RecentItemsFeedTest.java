@@ -0,0 +1,83 @@
+package com.carrot.service;
+
+import com.carrot.dto.ItemDetailSnapshot;
+import com.carrot.entity.Item;
+import com.carrot.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RecentItemsFeed의 단위 테스트
+ * - 최신순 유지, 크기 제한, 수정/제거 반영 테스트
+ */
+class RecentItemsFeedTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private RecentItemsFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new RecentItemsFeed();
+        ReflectionTestUtils.setField(feed, "capacity", 3);
+    }
+
+    @Test
+    @DisplayName("등록일 역순으로 유지")
+    void upsert_KeepsNewestFirst() {
+        feed.upsert(snapshot(1L, "첫 번째 상품", 1));
+        feed.upsert(snapshot(3L, "세 번째 상품", 3));
+        feed.upsert(snapshot(2L, "두 번째 상품", 2));
+
+        assertThat(feed.getRecentItems(3)).extracting(Item::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래된 상품이 밀려남")
+    void upsert_OverCapacity_DropsOldest() {
+        for (long id = 1; id <= 4; id++) {
+            feed.upsert(snapshot(id, "상품 " + id, (int) id));
+        }
+
+        assertThat(feed.size()).isEqualTo(3);
+        assertThat(feed.getRecentItems(10)).extracting(Item::getId).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 다시 반영하면 교체")
+    void upsert_SameItem_Replaces() {
+        feed.upsert(snapshot(1L, "수정 전 제목", 1));
+        feed.upsert(snapshot(1L, "수정 후 제목", 1));
+
+        assertThat(feed.getRecentItems(3)).extracting(Item::getTitle).containsExactly("수정 후 제목");
+    }
+
+    @Test
+    @DisplayName("제거된 상품은 목록에서 빠짐")
+    void remove_RemovesItem() {
+        ReflectionTestUtils.setField(feed, "capacity", 2);   // 절반 미만 다시 채우기가 일어나지 않도록
+        feed.upsert(snapshot(1L, "첫 번째 상품", 1));
+        feed.upsert(snapshot(2L, "두 번째 상품", 2));
+
+        feed.remove(2L);
+
+        assertThat(feed.getRecentItems(3)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    private static ItemDetailSnapshot snapshot(Long id, String title, int minutes) {
+        User seller = new User();
+        seller.setId(100L);
+        seller.setName("판매자");
+
+        Item item = new Item(title, "상품 설명입니다", 10000, "misc", "서울", seller);
+        item.setId(id);
+        item.setCreatedAt(BASE.plusMinutes(minutes));
+        return new ItemDetailSnapshot(item);
+    }
+}
@@ -0,0 +1,80 @@
+package com.carrot.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * ViewCountAggregator의 단위 테스트
+ * - 반영 중 유휴 카운터 제거와 동시 조회, 종료 시 반영 테스트
+ */
+class ViewCountAggregatorTest {
+
+    private ViewCountAggregator aggregator;
+    private JdbcTemplate jdbcTemplate;
+    private final AtomicLong applied = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        // batch UPDATE로 더해진 조회수 합계를 기록
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> applied.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+        aggregator = new ViewCountAggregator();
+        ReflectionTestUtils.setField(aggregator, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(aggregator, "itemDetailCache", mock(ItemDetailCache.class));
+    }
+
+    @Test
+    @DisplayName("조회와 반영(유휴 카운터 제거 포함)이 동시에 일어나도 조회수가 빠지거나 두 번 반영되지 않음")
+    void flush_ConcurrentWithIncrements_AppliesEveryView() {
+        int threads = 4;
+        int viewsPerThread = 20_000;
+
+        CompletableFuture<?>[] viewers = IntStream.range(0, threads)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        aggregator.increment(ViewCountAggregator.Target.ITEM, (long) (i % 3));
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Void> viewing = CompletableFuture.allOf(viewers);
+        while (!viewing.isDone()) {
+            aggregator.flush();
+        }
+        aggregator.flushOnShutdown();
+
+        assertThat(applied.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("종료 시 한 번 반영한 뒤에는 다시 반영하지 않음")
+    void flushOnShutdown_Idempotent() {
+        aggregator.increment(ViewCountAggregator.Target.ITEM, 1L);
+        aggregator.increment(ViewCountAggregator.Target.BOARD, 2L);
+
+        aggregator.flushOnShutdown();
+        aggregator.increment(ViewCountAggregator.Target.ITEM, 1L);
+        aggregator.flush();
+        aggregator.flushOnShutdown();
+
+        assertThat(applied.get()).isEqualTo(2);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+}
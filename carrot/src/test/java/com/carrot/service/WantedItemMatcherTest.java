@@ -0,0 +1,144 @@
+package com.carrot.service;
+
+import com.carrot.constant.ItemSellStatus;
+import com.carrot.dto.WantedMatchNotification;
+import com.carrot.entity.Item;
+import com.carrot.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * WantedItemMatcher의 단위 테스트
+ * - 버킷 이진 탐색, 가격 인하 구간 매칭, 색인 변경, 일괄 반영, 상품 변경 이벤트 테스트
+ */
+class WantedItemMatcherTest {
+
+    private static final long SELLER = 100L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private WantedItemMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new WantedItemMatcher();
+        ReflectionTestUtils.setField(matcher, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(matcher, "notificationsPerBuyer", 2);
+        // 매칭 직전 확인: 상품 10은 판매 중 + VISIBLE
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(10L));
+
+        matcher.update(wanted(1L, 1L, 30_000, "서울 강남구"));
+        matcher.update(wanted(2L, 2L, 50_000, "서울 강남구"));
+        matcher.update(wanted(3L, 3L, 10_000, "서울 강남구"));
+        matcher.update(wanted(4L, 4L, 50_000, "서울 마포구"));
+    }
+
+    @Test
+    @DisplayName("같은 카테고리/지역에서 최대 희망가격이 상품 가격 이상인 구매희망만 매칭")
+    void match_SameBucket_PriceAtMostMaxPrice() {
+        assertThat(ids(matcher.match(candidate(30_000, null, "서울 강남구")))).containsExactly(1L, 2L);
+        assertThat(ids(matcher.match(candidate(60_000, null, "서울 강남구")))).isEmpty();
+        assertThat(ids(matcher.match(candidate(5_000, null, " 서울 마포구 ")))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("가격 인하는 새로 조건에 들어온 구매희망만 매칭")
+    void match_PriceDrop_OnlyNewlyAffordable() {
+        // 40,000 → 10,000: 30,000과 10,000은 새로 매칭, 50,000은 이미 매칭되어 있었음
+        assertThat(ids(matcher.match(candidate(10_000, 40_000, "서울 강남구")))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("판매자 본인의 구매희망과 색인에서 빠진 구매희망은 매칭하지 않음")
+    void match_ExcludesSellerAndRemoved() {
+        matcher.update(wanted(5L, SELLER, 99_000, "서울 강남구"));
+        matcher.remove(2L);
+        matcher.update(wanted(1L, 1L, 20_000, "서울 강남구"));   // 최대 희망가격 수정
+
+        assertThat(ids(matcher.match(candidate(25_000, null, "서울 강남구")))).isEmpty();
+        assertThat(matcher.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("flush 한 번에 구매희망별 증가분을 batch UPDATE, 알림은 구매자별 최근 N개")
+    void flush_BatchesInterestAndNotifications() {
+        matcher.enqueue(candidate(10_000, null, "서울 강남구"));
+        matcher.enqueue(candidate(20_000, null, "서울 강남구"));
+        matcher.enqueue(candidate(5_000, null, "서울 강남구"));
+
+        matcher.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> args) ->
+                args.size() == 3 && args.stream().anyMatch(row -> row[0].equals(3) && row[1].equals(2L))));
+        List<WantedMatchNotification> notifications = matcher.getNotifications(2L);
+        assertThat(notifications).hasSize(2);
+        assertThat(notifications.get(0).getPrice()).isEqualTo(5_000);
+        assertThat(matcher.getNotifications(2L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록 후 매칭 전에 판매 중지된 상품은 대기열에서 빠져 알림/관심 수에 반영되지 않음")
+    void onItemChanged_NoLongerAvailable_DropsPendingCandidate() {
+        Item item = item(10_000, "서울 강남구");
+        matcher.onItemChanged(ItemChangedEvent.registered(item));
+        item.setSellStatus(ItemSellStatus.RESERVED);
+        matcher.onItemChanged(ItemChangedEvent.statusChanged(item));
+
+        matcher.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(matcher.getNotifications(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 중에 자동 필터링으로 숨겨진 상품(현재 DB 상태로 확인)은 매칭하지 않음")
+    void flush_ItemHiddenSinceEnqueue_Skipped() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+        matcher.enqueue(candidate(10_000, null, "서울 강남구"));
+
+        matcher.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertThat(matcher.getNotifications(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림을 보낸 뒤 숨겨진 상품은 구매자 알림에서도 빠짐")
+    void onItemChanged_Hidden_WithdrawsNotifications() {
+        matcher.enqueue(candidate(10_000, null, "서울 강남구"));
+        matcher.flush();
+        assertThat(matcher.getNotifications(2L)).hasSize(1);
+
+        matcher.onItemChanged(ItemChangedEvent.hidden(10L));
+
+        assertThat(matcher.getNotifications(2L)).isEmpty();
+    }
+
+    private static Item item(int price, String location) {
+        User seller = new User();
+        seller.setId(SELLER);
+        Item item = new Item("판매 상품", "설명", price, "electronics", location, seller);
+        item.setId(10L);
+        return item;
+    }
+
+    private static WantedItemMatcher.Wanted wanted(Long id, Long buyerId, int maxPrice, String location) {
+        return new WantedItemMatcher.Wanted(id, buyerId, "구매희망 " + id, maxPrice, "electronics", location);
+    }
+
+    private static WantedItemMatcher.Candidate candidate(int price, Integer previousPrice, String location) {
+        return new WantedItemMatcher.Candidate(10L, SELLER, "판매 상품", price, previousPrice, "electronics", location);
+    }
+
+    private static List<Long> ids(List<WantedItemMatcher.Wanted> wanted) {
+        return wanted.stream().map(WantedItemMatcher.Wanted::id).toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.carrot.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정기
+ * - hibernate.session_factory.statement_inspector로 등록하면 Hibernate가 보내는 모든 SQL을 셈
+ * - 목록 조회에서 연관 엔티티 지연 로딩(N+1)이 다시 생기지 않았는지 검사할 때 사용
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+}